@@ -0,0 +1,46 @@
+package com.talentbridge.backend.ai.service;
+
+import com.talentbridge.backend.ai.dto.SkillGuidanceResponseDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// AiSkillGuidanceService.parseAiResponse on the sample model output in example-ai-response.json,
+// as returned and wrapped in a markdown code fence
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillGuidanceParseBenchmark {
+
+    private AiSkillGuidanceService service;
+    private String response;
+    private String fencedResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        service = new AiSkillGuidanceService();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("example-ai-response.json")) {
+            if (in == null) {
+                throw new IllegalStateException("example-ai-response.json not found on classpath");
+            }
+            response = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        fencedResponse = "```json\n" + response + "\n```";
+    }
+
+    @Benchmark
+    public SkillGuidanceResponseDTO parse() {
+        return service.parseAiResponse(response, "JavaScript");
+    }
+
+    @Benchmark
+    public SkillGuidanceResponseDTO parseFenced() {
+        return service.parseAiResponse(fencedResponse, "JavaScript");
+    }
+}
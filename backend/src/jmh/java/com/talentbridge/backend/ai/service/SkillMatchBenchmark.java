@@ -0,0 +1,84 @@
+package com.talentbridge.backend.ai.service;
+
+import com.talentbridge.backend.ai.dto.SkillMatchRequestDTO;
+import com.talentbridge.backend.ai.dto.SkillMatchResponseDTO;
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.jobs.search.SkillIdfTable;
+import com.talentbridge.backend.skills.service.MatchMode;
+import com.talentbridge.backend.skills.service.SkillCatalog;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// SkillMatchService.calculateMatch for candidate and job skill sets of the same size, drawn from the
+// skill dictionary with about half of them shared
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillMatchBenchmark {
+
+    private static final int JOBS = 10000;
+
+    @Param({"2", "8", "32"})
+    public int skills;
+
+    @Param({"BINARY", "TFIDF"})
+    public MatchMode mode;
+
+    private SkillMatchService service;
+    private SkillMatchRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        // Real skill names (and some unknown ones) in mixed case, as clients send them
+        List<String> names = new ArrayList<>(SkillCatalog.getDefault().getCanonicalNames());
+        for (int i = 0; names.size() < 4 * skills; i++) {
+            names.add("Custom Skill " + i);
+        }
+        Random random = new Random(7);
+
+        // A published IDF snapshot needs jobs behind it, otherwise every skill weighs 1.0 and TFIDF
+        // measures the binary path. Skill popularity is skewed towards the front of the list.
+        SkillDictionary dictionary = new SkillDictionary(65536);
+        SkillIdfTable idfTable = new SkillIdfTable(dictionary);
+        idfTable.initData();
+        for (long jobId = 1; jobId <= JOBS; jobId++) {
+            List<String> jobSkills = new ArrayList<>();
+            for (int i = 3 + random.nextInt(6); i > 0; i--) {
+                double skew = random.nextDouble();
+                jobSkills.add(names.get((int) (skew * skew * names.size())));
+            }
+            Job job = new Job();
+            job.setJobId(jobId);
+            job.setSkills(jobSkills);
+            idfTable.onJobChanged(JobChangedEvent.saved(job));
+        }
+        idfTable.publish();
+        service = new SkillMatchService();
+        ReflectionTestUtils.setField(service, "skillDictionary", dictionary);
+        ReflectionTestUtils.setField(service, "skillIdfTable", idfTable);
+
+        List<String> candidate = new ArrayList<>();
+        List<String> job = new ArrayList<>();
+        for (int i = 0; i < skills; i++) {
+            String shared = names.get(random.nextInt(names.size()));
+            candidate.add(random.nextBoolean() ? shared.toUpperCase() : shared);
+            job.add(i % 2 == 0 ? shared : names.get(random.nextInt(names.size())));
+        }
+        request = new SkillMatchRequestDTO(candidate, job);
+    }
+
+    @Benchmark
+    public SkillMatchResponseDTO calculateMatch() {
+        return service.calculateMatch(request, mode);
+    }
+}
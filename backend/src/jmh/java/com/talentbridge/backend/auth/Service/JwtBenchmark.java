@@ -0,0 +1,53 @@
+package com.talentbridge.backend.auth.Service;
+
+import com.talentbridge.backend.auth.model.JwtClaims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+// JWTService token generation, claim parsing (with and without the verified-claims cache) and validation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JWTService cachingService;
+    private JWTService uncachedService;
+    private String token;
+    private UserDetails user;
+
+    @Setup
+    public void setUp() {
+        cachingService = new JWTService(10_000, 300, 900);
+        // A zero-size cache keeps nothing, so every parse verifies the signature and decodes the JSON
+        uncachedService = new JWTService(0, 300, 900);
+        token = cachingService.generateToken("jane.doe@example.com", "JOBSEEKER", 42L, 3);
+        user = User.withUsername("jane.doe@example.com").password("unused").roles("JOBSEEKER").build();
+        cachingService.parseClaims(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingService.generateToken("jane.doe@example.com", "JOBSEEKER", 42L, 3);
+    }
+
+    @Benchmark
+    public JwtClaims parseClaimsCached() {
+        return cachingService.parseClaims(token);
+    }
+
+    @Benchmark
+    public JwtClaims parseClaimsUncached() {
+        return uncachedService.parseClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return cachingService.validateToken(token, user);
+    }
+}
@@ -0,0 +1,43 @@
+package com.talentbridge.backend.jobs.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Skill extraction as it runs when a job is persisted with a new description, across description lengths
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillExtractionBenchmark {
+
+    private static final String SAMPLE = "We are hiring a backend engineer to build Java and Spring Boot services "
+            + "on AWS. You will design REST APIs, model data in MySQL and PostgreSQL, deploy with Docker and "
+            + "Kubernetes, and work with a React.js frontend team. Experience with Kafka, Redis and CI/CD "
+            + "pipelines is a plus; NodeJS or Python scripting helps. ";
+
+    @Param({"200", "2000", "5000"})
+    public int length;
+
+    private String description;
+
+    @Setup
+    public void setUp() {
+        StringBuilder text = new StringBuilder(length + SAMPLE.length());
+        while (text.length() < length) {
+            text.append(SAMPLE);
+        }
+        description = text.substring(0, length);
+    }
+
+    @Benchmark
+    public List<String> extractSkills() {
+        Job job = new Job();
+        job.setDescription(description);
+        job.prepareSkills();
+        return job.getSkills();
+    }
+}
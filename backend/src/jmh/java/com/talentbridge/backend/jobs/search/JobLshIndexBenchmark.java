@@ -0,0 +1,138 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Recall/latency tradeoff of LSH shortlisting against the exact scan, on a synthetic catalogue where
+// jobs and candidates draw most of their skills from one of a few dozen topics. Each operation ranks
+// the top K jobs for one candidate, either by scanning every job ("exact") or by rescoring the
+// shortlist of a (bands x rows) JobLshIndex. Recall@K is found / wanted from the Recall counters;
+// shortlisted / found-per-op gives the mean shortlist size. Run a subset with e.g.
+//   mvn -P benchmarks -DskipTests verify -Djmh.args="JobLshIndex -p setting=exact,16x2"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobLshIndexBenchmark {
+
+    private static final int VOCABULARY = 600;
+    private static final int TOPICS = 40;
+    private static final int TOPIC_SIZE = 20;
+    private static final int QUERIES = 500;
+    private static final int K = 20;
+
+    @State(Scope.Benchmark)
+    public static class Catalogue {
+
+        @Param({"200000"})
+        public int jobs;
+
+        // "exact", or bands x rows of the LSH index
+        @Param({"exact", "8x1", "16x2", "32x2", "20x3", "40x3", "64x4"})
+        public String setting;
+
+        JobSkillVectorIndex exact;
+        JobLshIndex lsh;
+        List<Set<String>> queries;
+        List<Set<Long>> expected;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            int[][] topics = new int[TOPICS][TOPIC_SIZE];
+            for (int[] topic : topics) {
+                for (int i = 0; i < TOPIC_SIZE; i++) {
+                    topic[i] = random.nextInt(VOCABULARY);
+                }
+            }
+            List<JobChangedEvent> events = new ArrayList<>(jobs);
+            for (long id = 1; id <= jobs; id++) {
+                Job job = new Job();
+                job.setJobId(id);
+                job.setSkills(new ArrayList<>(skillSet(random, topics, 3, 8)));
+                events.add(JobChangedEvent.saved(job));
+            }
+            queries = new ArrayList<>(QUERIES);
+            for (int i = 0; i < QUERIES; i++) {
+                queries.add(skillSet(random, topics, 2, 10));
+            }
+
+            exact = new JobSkillVectorIndex(new SkillDictionary(65536), 8192);
+            exact.initData();
+            events.forEach(exact::onJobChanged);
+            expected = new ArrayList<>(QUERIES);
+            for (Set<String> skills : queries) {
+                expected.add(new HashSet<>(exact.rank(skills, null, 0, K).jobIds()));
+            }
+
+            if (!setting.equals("exact")) {
+                String[] bandsAndRows = setting.split("x");
+                lsh = new JobLshIndex(Integer.parseInt(bandsAndRows[0]), Integer.parseInt(bandsAndRows[1]));
+                lsh.initData();
+                events.forEach(lsh::onJobChanged);
+            }
+        }
+    }
+
+    // Summed over each iteration: recall@K = found / wanted
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Recall {
+        public long found;
+        public long wanted;
+        public long shortlisted;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            found = 0;
+            wanted = 0;
+            shortlisted = 0;
+        }
+    }
+
+    @Benchmark
+    public List<Long> topK(Catalogue catalogue, Recall recall) {
+        int query = recall.next++ % QUERIES;
+        Set<String> skills = catalogue.queries.get(query);
+        List<Long> ranked;
+        if (catalogue.lsh == null) {
+            ranked = catalogue.exact.rank(skills, null, 0, K).jobIds();
+        } else {
+            Set<Long> shortlist = catalogue.lsh.candidates(skills);
+            recall.shortlisted += shortlist.size();
+            ranked = catalogue.exact.rankAmong(shortlist, skills, null, 0, K).jobIds();
+        }
+        Set<Long> wanted = catalogue.expected.get(query);
+        recall.wanted += wanted.size();
+        for (Long jobId : ranked) {
+            if (wanted.contains(jobId)) {
+                recall.found++;
+            }
+        }
+        return ranked;
+    }
+
+    // Mostly one topic's skills plus the odd random one, as normalized names
+    private static Set<String> skillSet(Random random, int[][] topics, int min, int max) {
+        int[] topic = topics[random.nextInt(TOPICS)];
+        int count = min + random.nextInt(max - min + 1);
+        Set<String> skills = new LinkedHashSet<>();
+        while (skills.size() < count) {
+            int skill = random.nextInt(5) == 0 ? random.nextInt(VOCABULARY) : topic[random.nextInt(TOPIC_SIZE)];
+            skills.add("skill-" + skill);
+        }
+        return skills;
+    }
+}
@@ -1,12 +1,22 @@
 package com.talentbridge.backend.ai.controller;
 
+import com.talentbridge.backend.ai.dto.JobRecommendationDTO;
+import com.talentbridge.backend.ai.dto.MatchScoreDTO;
 import com.talentbridge.backend.ai.dto.SkillMatchRequestDTO;
 import com.talentbridge.backend.ai.dto.SkillMatchResponseDTO;
+import com.talentbridge.backend.ai.service.JobRecommendationService;
+import com.talentbridge.backend.ai.service.MatchScoreService;
 import com.talentbridge.backend.ai.service.SkillMatchService;
+import com.talentbridge.backend.jobs.dto.SearchResultDTO;
+import com.talentbridge.backend.skills.service.MatchMode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/ai")
 @CrossOrigin(origins = "*") // Allows frontend to access this endpoint
@@ -15,9 +25,45 @@ public class SkillMatchController {
     @Autowired
     private SkillMatchService skillMatchService;
 
+    @Autowired
+    private JobRecommendationService jobRecommendationService;
+
+    @Autowired
+    private MatchScoreService matchScoreService;
+
+    // Best matching jobs across the whole catalogue for a candidate's profile skills
+    @GetMapping("/recommendations/{userId}")
+    public ResponseEntity<SearchResultDTO<JobRecommendationDTO>> recommendJobs(@PathVariable Long userId,
+                                                                            @RequestParam(required = false) Integer page,
+                                                                            @RequestParam(required = false) Integer size,
+                                                                            @RequestParam(required = false) String mode) {
+        MatchMode matchMode = MatchMode.from(mode);
+        if (!jobRecommendationService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        return jobRecommendationService.recommendJobs(userId, page, size, matchMode)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Best matching jobs for a candidate from the materialized match scores
+    @GetMapping("/best-matches/candidate/{userId}")
+    public ResponseEntity<List<MatchScoreDTO>> bestJobsForCandidate(@PathVariable Long userId,
+                                                                    @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(matchScoreService.bestJobsForCandidate(userId, limit));
+    }
+
+    // Best matching candidates for a job from the materialized match scores
+    @GetMapping("/best-matches/job/{jobId}")
+    public ResponseEntity<List<MatchScoreDTO>> bestCandidatesForJob(@PathVariable Long jobId,
+                                                                    @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(matchScoreService.bestCandidatesForJob(jobId, limit));
+    }
+
     @PostMapping("/skill-match")
-    public ResponseEntity<SkillMatchResponseDTO> matchSkills(@RequestBody SkillMatchRequestDTO request) {
-        SkillMatchResponseDTO response = skillMatchService.calculateMatch(request);
+    public ResponseEntity<SkillMatchResponseDTO> matchSkills(@RequestBody SkillMatchRequestDTO request,
+                                                             @RequestParam(required = false) String mode) {
+        SkillMatchResponseDTO response = skillMatchService.calculateMatch(request, MatchMode.from(mode));
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.talentbridge.backend.ai.dto;
+
+import com.talentbridge.backend.jobs.dto.JobCardDTO;
+
+import java.util.List;
+
+// A recommended job with the same match breakdown /api/ai/skill-match gives for one pair
+public class JobRecommendationDTO {
+    private JobCardDTO job;
+    private int matchPercentage;
+    private List<String> matchedSkills;
+    private List<String> missingSkills;
+
+    public JobRecommendationDTO() {}
+
+    public JobRecommendationDTO(JobCardDTO job, int matchPercentage, List<String> matchedSkills, List<String> missingSkills) {
+        this.job = job;
+        this.matchPercentage = matchPercentage;
+        this.matchedSkills = matchedSkills;
+        this.missingSkills = missingSkills;
+    }
+
+    public JobCardDTO getJob() { return job; }
+    public void setJob(JobCardDTO job) { this.job = job; }
+
+    public int getMatchPercentage() { return matchPercentage; }
+    public void setMatchPercentage(int matchPercentage) { this.matchPercentage = matchPercentage; }
+
+    public List<String> getMatchedSkills() { return matchedSkills; }
+    public void setMatchedSkills(List<String> matchedSkills) { this.matchedSkills = matchedSkills; }
+
+    public List<String> getMissingSkills() { return missingSkills; }
+    public void setMissingSkills(List<String> missingSkills) { this.missingSkills = missingSkills; }
+}
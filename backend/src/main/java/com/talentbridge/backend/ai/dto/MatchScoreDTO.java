@@ -0,0 +1,32 @@
+package com.talentbridge.backend.ai.dto;
+
+import java.time.LocalDateTime;
+
+// One materialized job/candidate match; updatedAt is when the pair was last recomputed
+public class MatchScoreDTO {
+    private Long jobId;
+    private Long userId;
+    private int matchPercentage;
+    private LocalDateTime updatedAt;
+
+    public MatchScoreDTO() {}
+
+    public MatchScoreDTO(Long jobId, Long userId, int matchPercentage, LocalDateTime updatedAt) {
+        this.jobId = jobId;
+        this.userId = userId;
+        this.matchPercentage = matchPercentage;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getJobId() { return jobId; }
+    public void setJobId(Long jobId) { this.jobId = jobId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public int getMatchPercentage() { return matchPercentage; }
+    public void setMatchPercentage(int matchPercentage) { this.matchPercentage = matchPercentage; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,62 @@
+package com.talentbridge.backend.ai.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Materialized skill match between a job and a candidate profile, one row per pair with a
+// positive score. Written by MatchScoreService only; both indexes serve "best N" reads as range scans.
+@Entity
+@Table(name = "job_candidate_score", indexes = {
+        @Index(name = "idx_job_candidate_score_user", columnList = "user_id, score DESC, job_id DESC"),
+        @Index(name = "idx_job_candidate_score_job", columnList = "job_id, score DESC, user_id")
+})
+@IdClass(JobCandidateScore.Key.class)
+public class JobCandidateScore {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Cosine similarity of the two skill sets, in (0, 1]
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public JobCandidateScore() {}
+
+    public Long getJobId() { return jobId; }
+    public Long getUserId() { return userId; }
+    public double getScore() { return score; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public static class Key implements Serializable {
+        private Long jobId;
+        private Long userId;
+
+        public Key() {}
+
+        public Key(Long jobId, Long userId) {
+            this.jobId = jobId;
+            this.userId = userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Objects.equals(jobId, other.jobId) && Objects.equals(userId, other.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobId, userId);
+        }
+    }
+}
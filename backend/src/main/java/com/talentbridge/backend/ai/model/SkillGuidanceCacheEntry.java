@@ -0,0 +1,52 @@
+package com.talentbridge.backend.ai.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Persisted tier of SkillGuidanceCache: one parsed guidance answer per canonical skill and score
+// bucket. Rows written by another model are ignored on read and overwritten on the next miss.
+@Entity
+@Table(name = "skill_guidance_cache")
+public class SkillGuidanceCacheEntry {
+
+    // "<normalized skill>|<bucket>"
+    @Id
+    @Column(name = "cache_key", length = 300)
+    private String cacheKey;
+
+    @Column(nullable = false)
+    private String skill;
+
+    @Column(nullable = false)
+    private int scoreBucket;
+
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    // SkillGuidanceResponseDTO as JSON
+    @Lob
+    @Column(nullable = false)
+    private String response;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public SkillGuidanceCacheEntry() {}
+
+    public SkillGuidanceCacheEntry(String cacheKey, String skill, int scoreBucket, String model, String response) {
+        this.cacheKey = cacheKey;
+        this.skill = skill;
+        this.scoreBucket = scoreBucket;
+        this.model = model;
+        this.response = response;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public String getCacheKey() { return cacheKey; }
+    public String getSkill() { return skill; }
+    public int getScoreBucket() { return scoreBucket; }
+    public String getModel() { return model; }
+    public String getResponse() { return response; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
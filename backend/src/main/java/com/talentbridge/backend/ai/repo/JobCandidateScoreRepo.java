@@ -0,0 +1,23 @@
+package com.talentbridge.backend.ai.repo;
+
+import com.talentbridge.backend.ai.model.JobCandidateScore;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobCandidateScoreRepo extends JpaRepository<JobCandidateScore, JobCandidateScore.Key> {
+
+    // Best jobs for a candidate, newest job first on ties
+    List<JobCandidateScore> findByUserIdOrderByScoreDescJobIdDesc(Long userId, Limit limit);
+
+    // Best candidates for a job
+    List<JobCandidateScore> findByJobIdOrderByScoreDescUserIdAsc(Long jobId, Limit limit);
+
+    // Rows are written by MatchScoreService through JDBC
+    String DELETE_BY_JOB = "DELETE FROM job_candidate_score WHERE job_id = ?";
+    String DELETE_BY_USER = "DELETE FROM job_candidate_score WHERE user_id = ?";
+    String INSERT = "INSERT INTO job_candidate_score (job_id, user_id, score, updated_at) VALUES (?, ?, ?, ?)";
+}
@@ -0,0 +1,9 @@
+package com.talentbridge.backend.ai.repo;
+
+import com.talentbridge.backend.ai.model.SkillGuidanceCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SkillGuidanceCacheRepo extends JpaRepository<SkillGuidanceCacheEntry, String> {
+}
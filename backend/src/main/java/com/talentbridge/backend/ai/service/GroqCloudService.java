@@ -18,7 +18,8 @@ public class GroqCloudService {
     private String apiKey;
 
     private static final String GROQ_API_URL = "https://api.groq.com/openai/v1/chat/completions";
-    private static final String MODEL = "llama-3.1-8b-instant";
+    // Public so cached guidance can record which model produced it
+    public static final String MODEL = "llama-3.1-8b-instant";
     private static final int MAX_TOKENS = 1000;
     private static final int TIMEOUT = 10000; // 10 seconds
 
@@ -0,0 +1,109 @@
+package com.talentbridge.backend.ai.service;
+
+import com.talentbridge.backend.ai.dto.JobRecommendationDTO;
+import com.talentbridge.backend.jobs.dto.JobCardDTO;
+import com.talentbridge.backend.jobs.dto.SearchResultDTO;
+import com.talentbridge.backend.jobs.search.JobLshIndex;
+import com.talentbridge.backend.jobs.search.JobSkillVectorIndex;
+import com.talentbridge.backend.jobs.search.SkillIdfTable;
+import com.talentbridge.backend.jobs.service.JobService;
+import com.talentbridge.backend.skills.service.MatchMode;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import com.talentbridge.backend.skills.service.SkillWeights;
+import com.talentbridge.backend.userProfile.repo.UserProfileRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Ranks the whole job catalogue against a candidate's profile skills in one in-memory scan
+// (JobSkillVectorIndex) and returns a page of the best matches
+@Service
+public class JobRecommendationService {
+
+    @Autowired
+    private UserProfileRepo userProfileRepo;
+
+    @Autowired
+    private JobSkillVectorIndex skillVectorIndex;
+
+    @Autowired
+    private SkillIdfTable skillIdfTable;
+
+    @Autowired
+    private JobLshIndex lshIndex;
+
+    @Autowired
+    private JobService jobService;
+
+    @Value("${talentbridge.recommendations.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${talentbridge.recommendations.max-page-size:100}")
+    private int maxPageSize;
+
+    // Deepest rank a client can page to; bounds the heap each scan keeps
+    @Value("${talentbridge.recommendations.max-results:1000}")
+    private int maxResults;
+
+    // Catalogue size from which candidates are shortlisted through LSH before exact scoring;
+    // below it every job is scored
+    @Value("${talentbridge.recommendations.lsh.min-jobs:100000}")
+    private int lshMinJobs;
+
+    public boolean isReady() {
+        return skillVectorIndex.isReady();
+    }
+
+    // Empty when the user has no profile
+    public Optional<SearchResultDTO<JobRecommendationDTO>> recommendJobs(Long userId, Integer page, Integer size, MatchMode mode) {
+        if (!userProfileRepo.existsByUser_Id(userId)) {
+            return Optional.empty();
+        }
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        int offset = SearchResultDTO.offset(pageNumber, pageSize);
+
+        Set<String> skills = new LinkedHashSet<>();
+        for (String skill : userProfileRepo.findSkillsByUserId(userId)) {
+            if (skill != null) {
+                skills.add(SkillDictionary.normalize(skill));
+            }
+        }
+        // Pages past maxResults are empty; checked before offset + limit is computed
+        if (skills.isEmpty() || offset >= maxResults) {
+            return Optional.of(new SearchResultDTO<>(List.of(), 0, pageNumber, pageSize));
+        }
+
+        SkillWeights weights = mode == MatchMode.TFIDF ? skillIdfTable.weights() : null;
+        int limit = Math.min(pageSize, maxResults - offset);
+        JobSkillVectorIndex.RankedJobs ranked;
+        if (lshIndex.isReady() && lshIndex.size() >= lshMinJobs) {
+            // Approximate: jobs LSH misses are never scored, and total counts the shortlist's matches
+            ranked = skillVectorIndex.rankAmong(lshIndex.candidates(skills), skills, weights, offset, limit);
+        } else {
+            ranked = skillVectorIndex.rank(skills, weights, offset, limit);
+        }
+        List<JobCardDTO> cards = jobService.loadCardsInOrder(ranked.jobIds());
+
+        List<JobRecommendationDTO> items = new ArrayList<>(cards.size());
+        for (JobCardDTO card : cards) {
+            int index = ranked.jobIds().indexOf(card.getJobId());
+            List<String> matched = new ArrayList<>();
+            List<String> missing = new ArrayList<>();
+            if (card.getSkills() != null) {
+                for (String skill : card.getSkills()) {
+                    (skills.contains(SkillDictionary.normalize(skill)) ? matched : missing).add(skill);
+                }
+            }
+            int percentage = (int) (ranked.scores().get(index) * 100);
+            items.add(new JobRecommendationDTO(card, percentage, matched, missing));
+        }
+        return Optional.of(new SearchResultDTO<>(items, ranked.total(), pageNumber, pageSize));
+    }
+}
@@ -0,0 +1,293 @@
+package com.talentbridge.backend.ai.service;
+
+import com.talentbridge.backend.ai.dto.MatchScoreDTO;
+import com.talentbridge.backend.ai.model.JobCandidateScore;
+import com.talentbridge.backend.ai.repo.JobCandidateScoreRepo;
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.repo.JobRepo;
+import com.talentbridge.backend.jobs.repo.JobSkillRow;
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import com.talentbridge.backend.skills.service.SkillCatalog;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import com.talentbridge.backend.skills.service.SkillVector;
+import com.talentbridge.backend.userProfile.event.ProfileSkillsChangedEvent;
+import com.talentbridge.backend.userProfile.repo.ProfileSkillRow;
+import com.talentbridge.backend.userProfile.repo.UserProfileRepo;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Keeps the job_candidate_score read model current. Committed job and profile changes mark the
+// job or candidate dirty; a small worker pool recomputes each dirty one after a short delay, so a
+// burst of edits to the same job or profile costs a single recompute. A recompute replaces every
+// row of that job (or candidate) in one transaction with the cosine similarity against each
+// candidate (or job) sharing at least one skill.
+@Service
+public class MatchScoreService implements MetricsSource {
+
+    private enum Kind { JOB, CANDIDATE }
+
+    private record Target(Kind kind, Long id) {}
+
+    private final JobCandidateScoreRepo scoreRepo;
+    private final JobRepo jobRepo;
+    private final UserProfileRepo userProfileRepo;
+    private final SkillDictionary skillDictionary;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final ScheduledThreadPoolExecutor executor;
+    private final long coalesceMillis;
+    private final long retryMillis;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final boolean backfillOnStart;
+
+    // Dirty targets with a recompute scheduled, and targets being recomputed right now
+    private final Set<Target> pending = ConcurrentHashMap.newKeySet();
+    private final Set<Target> running = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong jobRecomputes = new AtomicLong();
+    private final AtomicLong candidateRecomputes = new AtomicLong();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lastRecomputeMillis;
+
+    public MatchScoreService(JobCandidateScoreRepo scoreRepo, JobRepo jobRepo, UserProfileRepo userProfileRepo,
+                             SkillDictionary skillDictionary, JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${talentbridge.match-scores.worker-threads:2}") int workerThreads,
+                             @Value("${talentbridge.match-scores.coalesce-ms:500}") long coalesceMillis,
+                             @Value("${talentbridge.match-scores.retry-ms:5000}") long retryMillis,
+                             @Value("${talentbridge.match-scores.page-size:20}") int defaultLimit,
+                             @Value("${talentbridge.match-scores.max-page-size:100}") int maxLimit,
+                             @Value("${talentbridge.match-scores.backfill-on-start:true}") boolean backfillOnStart) {
+        this.scoreRepo = scoreRepo;
+        this.jobRepo = jobRepo;
+        this.userProfileRepo = userProfileRepo;
+        this.skillDictionary = skillDictionary;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.coalesceMillis = Math.max(0, coalesceMillis);
+        this.retryMillis = Math.max(this.coalesceMillis, retryMillis);
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.backfillOnStart = backfillOnStart;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(Math.max(1, workerThreads), runnable -> {
+            Thread thread = new Thread(runnable, "match-score-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Best jobs for a candidate, straight off the (user_id, score) index
+    public List<MatchScoreDTO> bestJobsForCandidate(Long userId, Integer limit) {
+        return toDtos(scoreRepo.findByUserIdOrderByScoreDescJobIdDesc(userId, Limit.of(clampLimit(limit))));
+    }
+
+    // Best candidates for a job, straight off the (job_id, score) index
+    public List<MatchScoreDTO> bestCandidatesForJob(Long jobId, Integer limit) {
+        return toDtos(scoreRepo.findByJobIdOrderByScoreDescUserIdAsc(jobId, Limit.of(clampLimit(limit))));
+    }
+
+    // Without fallbackExecution: replays of other nodes' changes arrive outside a transaction and
+    // are skipped, since the node that made the change already recomputes the shared table
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        schedule(new Target(Kind.JOB, event.getJobId()), coalesceMillis);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileSkillsChanged(ProfileSkillsChangedEvent event) {
+        schedule(new Target(Kind.CANDIDATE, event.getUserId()), coalesceMillis);
+    }
+
+    // An empty table (first start, or after it was truncated) is rebuilt candidate by candidate
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStart) {
+            return;
+        }
+        try {
+            if (scoreRepo.count() > 0) {
+                return;
+            }
+            List<Long> userIds = userProfileRepo.findAllUserIds();
+            for (Long userId : userIds) {
+                schedule(new Target(Kind.CANDIDATE, userId), coalesceMillis);
+            }
+            if (!userIds.isEmpty()) {
+                System.out.println("Backfilling match scores for " + userIds.size() + " candidates");
+            }
+        } catch (DataAccessException e) {
+            System.out.println("Match score backfill skipped: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void schedule(Target target, long delayMillis) {
+        if (target.id() == null) {
+            return;
+        }
+        if (pending.add(target)) {
+            executor.schedule(() -> run(target), delayMillis, TimeUnit.MILLISECONDS);
+        } else {
+            coalesced.incrementAndGet();
+        }
+    }
+
+    private void run(Target target) {
+        // Never recompute the same target on two threads at once; try again once the other finishes
+        if (!running.add(target)) {
+            executor.schedule(() -> run(target), coalesceMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+        // Cleared before reading, so an edit committed from here on schedules another pass
+        pending.remove(target);
+        long start = System.currentTimeMillis();
+        try {
+            int rows = tx.execute(status -> target.kind() == Kind.JOB
+                    ? recomputeJob(target.id()) : recomputeCandidate(target.id()));
+            rowsWritten.addAndGet(rows);
+            (target.kind() == Kind.JOB ? jobRecomputes : candidateRecomputes).incrementAndGet();
+            lastRecomputeMillis = System.currentTimeMillis() - start;
+        } catch (RuntimeException e) {
+            // Typically a deadlock with a concurrent recompute of an overlapping job/candidate pair
+            failures.incrementAndGet();
+            System.err.println("Match score recompute failed for " + target + ", retrying: " + e.getMessage());
+            schedule(target, retryMillis);
+        } finally {
+            running.remove(target);
+        }
+    }
+
+    private int recomputeJob(Long jobId) {
+        jdbcTemplate.update(JobCandidateScoreRepo.DELETE_BY_JOB, jobId);
+        Set<String> jobSkills = new HashSet<>();
+        for (JobSkillRow row : jobRepo.findSkillsByJobIds(List.of(jobId))) {
+            jobSkills.add(SkillDictionary.normalize(row.getSkill()));
+        }
+        if (jobSkills.isEmpty()) {
+            return 0;
+        }
+        SkillVector jobVector = SkillVector.of(skillDictionary, jobSkills);
+
+        Map<Long, Set<String>> candidates = new HashMap<>();
+        for (ProfileSkillRow row : userProfileRepo.findSkillsOfProfilesWithAnySkill(storedForms(jobSkills))) {
+            candidates.computeIfAbsent(row.getUserId(), id -> new HashSet<>()).add(SkillDictionary.normalize(row.getSkill()));
+        }
+        List<Object[]> rows = new ArrayList<>(candidates.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        candidates.forEach((userId, skills) -> {
+            double score = jobVector.cosine(skills);
+            if (score > 0) {
+                rows.add(new Object[]{jobId, userId, score, now});
+            }
+        });
+        return insert(rows);
+    }
+
+    // The prefilters compare stored strings, which may predate canonicalization ("ReactJS"), so the
+    // IN list carries every alias of each normalized skill
+    private static Set<String> storedForms(Set<String> skills) {
+        Set<String> forms = new HashSet<>();
+        for (String skill : skills) {
+            forms.addAll(SkillCatalog.getDefault().surfaceForms(skill));
+        }
+        return forms;
+    }
+
+    private int recomputeCandidate(Long userId) {
+        jdbcTemplate.update(JobCandidateScoreRepo.DELETE_BY_USER, userId);
+        Set<String> candidateSkills = new HashSet<>();
+        for (String skill : userProfileRepo.findSkillsByUserId(userId)) {
+            if (skill != null) {
+                candidateSkills.add(SkillDictionary.normalize(skill));
+            }
+        }
+        if (candidateSkills.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<String>> jobs = new HashMap<>();
+        for (JobSkillRow row : jobRepo.findSkillsOfJobsWithAnySkill(storedForms(candidateSkills))) {
+            jobs.computeIfAbsent(row.getJobId(), id -> new ArrayList<>()).add(SkillDictionary.normalize(row.getSkill()));
+        }
+        List<Object[]> rows = new ArrayList<>(jobs.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jobs.forEach((jobId, skills) -> {
+            double score = SkillVector.of(skillDictionary, skills).cosine(candidateSkills);
+            if (score > 0) {
+                rows.add(new Object[]{jobId, userId, score, now});
+            }
+        });
+        return insert(rows);
+    }
+
+    private int insert(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(JobCandidateScoreRepo.INSERT, rows);
+        }
+        return rows.size();
+    }
+
+    private int clampLimit(Integer limit) {
+        return limit == null || limit <= 0 ? defaultLimit : Math.min(limit, maxLimit);
+    }
+
+    private static List<MatchScoreDTO> toDtos(List<JobCandidateScore> scores) {
+        List<MatchScoreDTO> result = new ArrayList<>(scores.size());
+        for (JobCandidateScore score : scores) {
+            result.add(new MatchScoreDTO(score.getJobId(), score.getUserId(), (int) (score.getScore() * 100),
+                    score.getUpdatedAt()));
+        }
+        return result;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "matchScores";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("pending", pending.size());
+        metrics.put("running", running.size());
+        metrics.put("coalescedChanges", coalesced.get());
+        metrics.put("jobRecomputes", jobRecomputes.get());
+        metrics.put("candidateRecomputes", candidateRecomputes.get());
+        metrics.put("rowsWritten", rowsWritten.get());
+        metrics.put("failures", failures.get());
+        metrics.put("lastRecomputeMillis", lastRecomputeMillis);
+        return metrics;
+    }
+}
@@ -0,0 +1,138 @@
+package com.talentbridge.backend.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talentbridge.backend.ai.dto.SkillGuidanceResponseDTO;
+import com.talentbridge.backend.ai.model.SkillGuidanceCacheEntry;
+import com.talentbridge.backend.ai.repo.SkillGuidanceCacheRepo;
+import com.talentbridge.backend.metrics.service.CacheMetrics;
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import com.talentbridge.backend.skills.service.SkillCatalog;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+// Skill guidance keyed by canonical skill and match-score bucket, since the answer depends on
+// nothing else. Two tiers: a bounded in-memory Caffeine cache in front of the skill_guidance_cache
+// table, which keeps answers across restarts and is shared between instances. Entries record the
+// model that produced them, so switching GroqCloudService.MODEL makes every stored answer a miss.
+@Service
+public class SkillGuidanceCache implements MetricsSource {
+
+    @Autowired
+    private SkillGuidanceCacheRepo cacheRepo;
+
+    private final AsyncCache<String, SkillGuidanceResponseDTO> guidance;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int bucketSize;
+    private final Duration storedTtl;
+    private final AtomicLong storedHits = new AtomicLong();
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong notCached = new AtomicLong();
+
+    public SkillGuidanceCache(@Value("${talentbridge.ai.guidance-cache.size:1000}") long cacheSize,
+                              @Value("${talentbridge.ai.guidance-cache.ttl-hours:24}") long ttlHours,
+                              @Value("${talentbridge.ai.guidance-cache.stored-ttl-days:30}") long storedTtlDays,
+                              @Value("${talentbridge.ai.guidance-cache.bucket-size:10}") int bucketSize) {
+        this.guidance = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .recordStats()
+                .buildAsync();
+        this.bucketSize = Math.max(1, Math.min(100, bucketSize));
+        this.storedTtl = Duration.ofDays(storedTtlDays);
+    }
+
+    // Cached guidance for the skill at this score, otherwise the generator's answer for the canonical
+    // skill at the bucket's midpoint score. A null answer (e.g. unparseable model output) is returned
+    // as null and not cached. Concurrent misses on one key share a single generator call.
+    // The cache only registers a future for the key; the caller that created it does the (slow) load
+    // on its own thread, so a miss never holds a map lock that other skills could stall behind.
+    public SkillGuidanceResponseDTO get(String skill, int matchScore,
+                                        BiFunction<String, Integer, SkillGuidanceResponseDTO> generator) {
+        String canonical = SkillCatalog.getDefault().canonicalize(skill.trim());
+        String normalized = SkillDictionary.normalize(canonical);
+        int bucket = Math.max(0, Math.min(100, matchScore)) / bucketSize;
+        String key = normalized + "|" + bucket;
+
+        CompletableFuture<SkillGuidanceResponseDTO> created = new CompletableFuture<>();
+        CompletableFuture<SkillGuidanceResponseDTO> result = guidance.get(key, (k, executor) -> created);
+        if (result == created) {
+            try {
+                // A null or failed future is dropped from the cache, so the next request retries
+                created.complete(load(key, canonical, normalized, bucket, generator));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            }
+        }
+        return result.join();
+    }
+
+    private SkillGuidanceResponseDTO load(String key, String canonical, String normalized, int bucket,
+                                          BiFunction<String, Integer, SkillGuidanceResponseDTO> generator) {
+        SkillGuidanceResponseDTO stored = readStored(key);
+        if (stored != null) {
+            storedHits.incrementAndGet();
+            return stored;
+        }
+        int representativeScore = Math.min(100, bucket * bucketSize + bucketSize / 2);
+        SkillGuidanceResponseDTO answer = generator.apply(canonical, representativeScore);
+        if (answer == null) {
+            notCached.incrementAndGet();
+            return null;
+        }
+        generated.incrementAndGet();
+        store(key, normalized, bucket, answer);
+        return answer;
+    }
+
+    private SkillGuidanceResponseDTO readStored(String key) {
+        try {
+            SkillGuidanceCacheEntry entry = cacheRepo.findById(key).orElse(null);
+            if (entry == null || !GroqCloudService.MODEL.equals(entry.getModel())
+                    || entry.getCreatedAt().isBefore(LocalDateTime.now().minus(storedTtl))) {
+                return null;
+            }
+            return objectMapper.readValue(entry.getResponse(), SkillGuidanceResponseDTO.class);
+        } catch (Exception e) {
+            // A broken row or an unavailable table only costs a model call
+            System.err.println("SkillGuidanceCache: Could not read stored guidance for " + key + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, String normalized, int bucket, SkillGuidanceResponseDTO answer) {
+        try {
+            String json = objectMapper.writeValueAsString(answer);
+            cacheRepo.save(new SkillGuidanceCacheEntry(key, normalized, bucket, GroqCloudService.MODEL, json));
+        } catch (Exception e) {
+            // Another instance may have stored the same key first; the in-memory tier still has it
+            System.err.println("SkillGuidanceCache: Could not store guidance for " + key + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "skillGuidanceCache";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = CacheMetrics.of(guidance.synchronous());
+        metrics.put("storedHits", storedHits.get());
+        metrics.put("generated", generated.get());
+        metrics.put("notCached", notCached.get());
+        metrics.put("bucketSize", bucketSize);
+        metrics.put("model", GroqCloudService.MODEL);
+        return metrics;
+    }
+}
@@ -2,15 +2,27 @@ package com.talentbridge.backend.ai.service;
 
 import com.talentbridge.backend.ai.dto.SkillMatchRequestDTO;
 import com.talentbridge.backend.ai.dto.SkillMatchResponseDTO;
+import com.talentbridge.backend.jobs.search.SkillIdfTable;
+import com.talentbridge.backend.skills.service.MatchMode;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import com.talentbridge.backend.skills.service.SkillVector;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 @Service
 public class SkillMatchService {
 
-    public SkillMatchResponseDTO calculateMatch(SkillMatchRequestDTO request) {
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private SkillIdfTable skillIdfTable;
+
+    public SkillMatchResponseDTO calculateMatch(SkillMatchRequestDTO request, MatchMode mode) {
         // 1. Normalize inputs (lowercase, trim, distinct)
         List<String> candidateSkills = normalizeSkills(request.getCandidateSkills());
         List<String> jobSkills = normalizeSkills(request.getJobSkills());
@@ -19,21 +31,33 @@ public class SkillMatchService {
              return new SkillMatchResponseDTO(100, candidateSkills, new ArrayList<>(), "No specific skills required for this job.");
         }
 
-        // 2. Identify Matched and Missing Skills
-        // Matched: Intersection of candidate and job skills
-        List<String> matchedSkills = candidateSkills.stream()
-                .filter(jobSkills::contains)
-                .collect(Collectors.toList());
-
-        // Missing: Job skills NOT in candidate skills
-        List<String> missingSkills = jobSkills.stream()
-                .filter(skill -> !candidateSkills.contains(skill))
-                .collect(Collectors.toList());
+        // 2. Bitsets over the shared skill dictionary; both lists come from the client, so they are
+        //    looked up rather than interned
+        SkillVector candidateVector = SkillVector.lookup(skillDictionary, candidateSkills);
+        SkillVector jobVector = SkillVector.lookup(skillDictionary, jobSkills);
+
+        // 3. Identify Matched (candidate skills the job asks for) and Missing (job skills the candidate lacks)
+        List<String> matchedSkills = new ArrayList<>();
+        for (String skill : candidateSkills) {
+            if (jobVector.contains(skill)) {
+                matchedSkills.add(skill);
+            }
+        }
+        List<String> missingSkills = new ArrayList<>();
+        for (String skill : jobSkills) {
+            if (!candidateVector.contains(skill)) {
+                missingSkills.add(skill);
+            }
+        }
 
-        // 3. Calculate Cosine Similarity
-        double matchPercentage = calculateCosineSimilarity(candidateSkills, jobSkills);
+        // 4. Cosine similarity of the 0/1 skill vectors: popcount(A and B) / sqrt(|A| * |B|),
+        //    or of the IDF-weighted vectors in TFIDF mode
+        double similarity = mode == MatchMode.TFIDF
+                ? candidateVector.cosine(jobVector, skillIdfTable.weights())
+                : candidateVector.cosine(jobVector);
+        double matchPercentage = similarity * 100;
 
-        // 4. Generate Suggestion
+        // 5. Generate Suggestion
         String suggestion = generateSuggestion((int) matchPercentage, missingSkills);
 
         return new SkillMatchResponseDTO((int) matchPercentage, matchedSkills, missingSkills, suggestion);
@@ -44,54 +68,13 @@ public class SkillMatchService {
      */
     private List<String> normalizeSkills(List<String> skills) {
         if (skills == null) return new ArrayList<>();
-        return skills.stream()
-                .filter(Objects::nonNull)
-                .map(s -> s.trim().toLowerCase())
-                .distinct()
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Implements Cosine Similarity Algorithm
-     * Formula: (A . B) / (||A|| * ||B||)
-     */
-    private double calculateCosineSimilarity(List<String> candidateSkills, List<String> jobSkills) {
-        // Create a vocabulary (union of all skills) to define the vector space
-        Set<String> vocabulary = new HashSet<>();
-        vocabulary.addAll(candidateSkills);
-        vocabulary.addAll(jobSkills);
-
-        if (vocabulary.isEmpty()) return 0.0;
-
-        List<String> uniqueSkills = new ArrayList<>(vocabulary);
-
-        // Create vectors
-        double[] candidateVector = new double[uniqueSkills.size()];
-        double[] jobVector = new double[uniqueSkills.size()];
-
-        for (int i = 0; i < uniqueSkills.size(); i++) {
-            String skill = uniqueSkills.get(i);
-            candidateVector[i] = candidateSkills.contains(skill) ? 1.0 : 0.0;
-            jobVector[i] = jobSkills.contains(skill) ? 1.0 : 0.0;
+        LinkedHashSet<String> distinct = new LinkedHashSet<>();
+        for (String skill : skills) {
+            if (skill != null) {
+                distinct.add(SkillDictionary.normalize(skill));
+            }
         }
-
-        // Calculate Dot Product and Magnitudes
-        double dotProduct = 0.0;
-        double normA = 0.0;
-        double normB = 0.0;
-
-        for (int i = 0; i < uniqueSkills.size(); i++) {
-            dotProduct += candidateVector[i] * jobVector[i];
-            normA += Math.pow(candidateVector[i], 2);
-            normB += Math.pow(jobVector[i], 2);
-        }
-
-        if (normA == 0 || normB == 0) return 0.0;
-
-        double cosineSimilarity = dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
-        
-        // Return percentage (0-100)
-        return cosineSimilarity * 100;
+        return new ArrayList<>(distinct);
     }
 
     private String generateSuggestion(int percentage, List<String> missingSkills) {
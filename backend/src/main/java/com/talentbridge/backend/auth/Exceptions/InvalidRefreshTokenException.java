@@ -0,0 +1,7 @@
+package com.talentbridge.backend.auth.Exceptions;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -1,20 +1,26 @@
 package com.talentbridge.backend.auth.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talentbridge.backend.auth.model.JwtClaims;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 @Service
 public class JWTService {
@@ -37,6 +43,29 @@ public class JWTService {
     // }
     private final String secretKey = "YourSuperSecretKeyThatIsAtLeast32BytesLong!";
 
+    // Key and parser are immutable and thread-safe, so build them once instead of per token
+    private final SecretKey key;
+    private final JwtParser parser;
+
+    // Recently verified tokens -> claims, so repeat requests skip the HMAC check and JSON parse.
+    // Keyed by the full token string: an exact match is the only safe way to reuse a verification.
+    private final Cache<String, JwtClaims> verifiedTokens;
+
+    // Short-lived; clients renew through /token/refresh with the refresh cookie
+    private final long accessTokenTtlMillis;
+
+    public JWTService(@Value("${talentbridge.jwt.claims-cache-size:10000}") long claimsCacheSize,
+                      @Value("${talentbridge.jwt.claims-cache-ttl-seconds:300}") long claimsCacheTtlSeconds,
+                      @Value("${talentbridge.jwt.access-token-ttl-seconds:900}") long accessTokenTtlSeconds) {
+        this.accessTokenTtlMillis = Duration.ofSeconds(accessTokenTtlSeconds).toMillis();
+        this.key = getKey();
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(claimsCacheTtlSeconds))
+                .build();
+    }
+
     private SecretKey getKey() {
         byte[] keyBytes = Decoders.BASE64.decode(Base64.getEncoder().encodeToString(secretKey.getBytes()));
         return Keys.hmacShaKeyFor(keyBytes);
@@ -44,62 +73,76 @@ public class JWTService {
 
     // Generate token with email and role
     public String generateToken(String email, String role, Long id) {
+        return generateToken(email, role, id, 0);
+    }
+
+    // Generate token carrying the user's token version, so stateless auth can detect revoked tokens
+    public String generateToken(String email, String role, Long id, int tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
         System.out.println("generateToken: id = "+ id);
         claims.put("user_id", id);
         claims.put("role", role);
+        claims.put("ver", tokenVersion);
         return Jwts.builder()
                 .claims()
                 .add(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 30 * 1000))
+                .expiration(new Date(System.currentTimeMillis() + accessTokenTtlMillis))
                 .and()
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
 
     }
 
+    // Verify the token once and return its typed claims; throws JwtException if invalid or expired
+    public JwtClaims parseClaims(String token) {
+        JwtClaims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            verifiedTokens.invalidate(token);
+        }
+
+        Claims claims = extractAllClaims(token);
+        Integer version = claims.get("ver", Integer.class);
+        JwtClaims verified = new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get("user_id", Long.class),
+                version != null ? version : 0,
+                claims.getExpiration().getTime());
+        verifiedTokens.put(token, verified);
+        return verified;
+    }
+
     // Extract email (subject)
     public String extractUserName(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseClaims(token).getEmail();
     }
 
     // Extract role
     public String extractUserRole(String token) {
-        final Claims claims = extractAllClaims(token);
-        return claims.get("role", String.class);
+        return parseClaims(token).getRole();
     }
 
     // Extract id
     public Long extractUserId(String token) {
-        final Claims claims = extractAllClaims(token);
-        return claims.get("user_id", Long.class);
-    }
-
-    private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimResolver.apply(claims);
+        return parseClaims(token).getUserId();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    public boolean validateToken(String token, UserDetails userDetails) {
-        final String email = extractUserName(token);
-        return (email.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean validateToken(JwtClaims claims, UserDetails userDetails) {
+        return claims.getEmail().equals(userDetails.getUsername()) && !claims.isExpired();
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean validateToken(String token, UserDetails userDetails) {
+        return validateToken(parseClaims(token), userDetails);
     }
 }
@@ -1,6 +1,11 @@
 package com.talentbridge.backend.auth.Service;
 
+import java.time.Duration;
+import java.util.Map;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 
@@ -8,25 +13,77 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.talentbridge.backend.auth.model.UserPrincipal;
 import com.talentbridge.backend.auth.model.Users;
 import com.talentbridge.backend.auth.repo.UserRepo;
+import com.talentbridge.backend.metrics.service.CacheMetrics;
+import com.talentbridge.backend.metrics.service.MetricsSource;
 
 
 @Service
-public class MyUserDetailsService implements UserDetailsService {
+public class MyUserDetailsService implements UserDetailsService, UserDetailsPasswordService, MetricsSource {
 
     @Autowired
     private UserRepo userRepo;
 
+    // email -> principal; invalidated by UsersCacheListener whenever a Users row changes
+    private final Cache<String, UserPrincipal> principals;
+
+    public MyUserDetailsService(@Value("${talentbridge.auth.user-cache-size:10000}") long cacheSize,
+                                @Value("${talentbridge.auth.user-cache-ttl-seconds:300}") long ttlSeconds) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        UserPrincipal cached = principals.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
         Users user = userRepo.findByEmail(email);
         if (user == null) {
             System.out.println("User Not Found");
             throw new UsernameNotFoundException("user not found");
         }
         
-        return new UserPrincipal(user);
+        UserPrincipal principal = new UserPrincipal(user);
+        principals.put(email, principal);
+        return principal;
+    }
+
+    // Called by DaoAuthenticationProvider after a successful login when the stored hash needs a rehash
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        Users user = userRepo.findByEmail(userDetails.getUsername());
+        if (user == null) {
+            return userDetails;
+        }
+        user.setPassword(newPassword);
+        Users saved = userRepo.save(user);
+        evict(saved.getEmail());
+        return new UserPrincipal(saved);
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            principals.invalidate(email);
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "userDetailsCache";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        return CacheMetrics.of(principals);
     }
 }
\ No newline at end of file
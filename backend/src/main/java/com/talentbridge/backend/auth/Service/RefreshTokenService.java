@@ -0,0 +1,107 @@
+package com.talentbridge.backend.auth.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.talentbridge.backend.auth.Exceptions.InvalidRefreshTokenException;
+import com.talentbridge.backend.auth.model.RefreshToken;
+import com.talentbridge.backend.auth.repo.RefreshTokenRepo;
+
+@Service
+public class RefreshTokenService {
+
+    @Autowired
+    private RefreshTokenRepo refreshTokenRepo;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Duration refreshTokenTtl;
+
+    public RefreshTokenService(@Value("${talentbridge.jwt.refresh-token-ttl-days:14}") long refreshTokenTtlDays) {
+        this.refreshTokenTtl = Duration.ofDays(refreshTokenTtlDays);
+    }
+
+    public Duration getRefreshTokenTtl() {
+        return refreshTokenTtl;
+    }
+
+    // Create a new opaque refresh token for the user; only its hash is stored
+    @Transactional
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepo.save(new RefreshToken(hash(raw), userId, LocalDateTime.now().plus(refreshTokenTtl)));
+        return raw;
+    }
+
+    // Single-use: the presented token is revoked and the caller issues a new one.
+    // Presenting an already revoked token means it leaked, so every token of that user is revoked.
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Long consume(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new InvalidRefreshTokenException("Refresh token missing");
+        }
+        RefreshToken token = refreshTokenRepo.findByTokenHash(hash(raw))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+        if (token.isRevoked()) {
+            throw reused(token);
+        }
+        if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidRefreshTokenException("Refresh token expired");
+        }
+        // The revoked flag is flipped by a conditional update rather than read-then-save, so of two
+        // concurrent refreshes with the same token only one wins; the other counts as reuse
+        if (refreshTokenRepo.revokeIfActive(token.getId()) == 0) {
+            throw reused(token);
+        }
+        return token.getUserId();
+    }
+
+    private InvalidRefreshTokenException reused(RefreshToken token) {
+        refreshTokenRepo.revokeAllForUser(token.getUserId());
+        return new InvalidRefreshTokenException("Refresh token already used");
+    }
+
+    @Transactional
+    public void revoke(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return;
+        }
+        refreshTokenRepo.findByTokenHash(hash(raw)).ifPresent(token -> {
+            token.setRevoked(true);
+            refreshTokenRepo.save(token);
+        });
+    }
+
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        refreshTokenRepo.revokeAllForUser(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${talentbridge.jwt.revocation-cleanup-ms:3600000}")
+    @Transactional
+    public void deleteExpired() {
+        refreshTokenRepo.deleteExpired(LocalDateTime.now());
+    }
+
+    private static String hash(String raw) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(raw.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.talentbridge.backend.auth.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.talentbridge.backend.auth.model.RevokedAccessToken;
+import com.talentbridge.backend.auth.repo.RevokedAccessTokenRepo;
+
+// In-memory set of revoked access-token ids (jti). A Bloom filter answers the common "not revoked"
+// case with no locking or I/O; only filter hits consult the exact map.
+@Service
+public class TokenRevocationList {
+
+    private static final int MAX_GAPS = 10000;
+
+    @Autowired
+    private RevokedAccessTokenRepo revokedRepo;
+
+    private final int expectedEntries;
+
+    // jti -> expiry (epoch millis); entries are dropped once the token would have expired anyway
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloom;
+    private volatile long lastSeenId = 0;
+    // Skipped revocation ids -> when they were first missed (epoch millis), oldest first
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+    // Startup load and the scheduled poll may overlap; logouts don't wait on either
+    private final Object pollLock = new Object();
+    private boolean loaded;
+    private final long gapTimeoutMs;
+
+    public TokenRevocationList(@Value("${talentbridge.jwt.revocation-expected-entries:100000}") int expectedEntries,
+                               @Value("${talentbridge.jwt.revocation-gap-timeout-ms:300000}") long gapTimeoutMs) {
+        this.expectedEntries = expectedEntries;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.bloom = new BloomFilter(expectedEntries, 0.01);
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null && bloom.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    // Record a logout: persisted so other nodes (and restarts) pick it up, then applied locally
+    @Transactional
+    public void revoke(String jti, long expiresAtMillis) {
+        if (jti == null || expiresAtMillis <= System.currentTimeMillis() || revoked.containsKey(jti)) {
+            return;
+        }
+        if (!revokedRepo.existsByJti(jti)) {
+            revokedRepo.save(new RevokedAccessToken(jti, toLocalDateTime(expiresAtMillis)));
+        }
+        addLocal(jti, expiresAtMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        pollRevocations();
+    }
+
+    // Pick up revocations written by other nodes, then prune expired ones. Ids become visible in
+    // commit order, not id order, so ids the cursor skips over are looked up again on every poll
+    // until they appear or are older than the gap timeout (ids of rolled-back inserts never appear).
+    @Scheduled(fixedDelayString = "${talentbridge.jwt.revocation-poll-ms:15000}")
+    public void pollRevocations() {
+        synchronized (pollLock) {
+            poll();
+        }
+    }
+
+    private void poll() {
+        long now = System.currentTimeMillis();
+        if (!gaps.isEmpty()) {
+            for (RevokedAccessToken token : revokedRepo.findAllById(new ArrayList<>(gaps.keySet()))) {
+                gaps.remove(token.getId());
+                addLocal(token.getJti(), toEpochMillis(token.getExpiresAt()));
+            }
+            gaps.values().removeIf(firstMissed -> now - firstMissed > gapTimeoutMs);
+        }
+        List<RevokedAccessToken> fresh = revokedRepo.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(lastSeenId, LocalDateTime.now());
+        for (RevokedAccessToken token : fresh) {
+            // The startup load sees every committed row; only later polls can skip uncommitted ids
+            if (loaded) {
+                for (long id = Math.max(lastSeenId + 1, token.getId() - MAX_GAPS); id < token.getId(); id++) {
+                    gaps.put(id, now);
+                }
+            }
+            addLocal(token.getJti(), toEpochMillis(token.getExpiresAt()));
+            lastSeenId = token.getId();
+        }
+        Iterator<Long> oldest = gaps.keySet().iterator();
+        while (gaps.size() > MAX_GAPS) {
+            oldest.next();
+            oldest.remove();
+        }
+        loaded = true;
+        pruneExpired();
+    }
+
+    @Scheduled(fixedDelayString = "${talentbridge.jwt.revocation-cleanup-ms:3600000}")
+    @Transactional
+    public void deleteExpiredRows() {
+        revokedRepo.deleteExpired(LocalDateTime.now());
+    }
+
+    // Writers serialize on this lock so a concurrent rebuild can never drop a fresh revocation
+    private synchronized void addLocal(String jti, long expiresAtMillis) {
+        revoked.put(jti, expiresAtMillis);
+        bloom.put(jti);
+    }
+
+    // Expired entries can't be removed from a Bloom filter, so rebuild it from the live set and swap
+    private synchronized void pruneExpired() {
+        long now = System.currentTimeMillis();
+        boolean removed = revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        if (!removed && revoked.size() <= expectedEntries) {
+            return;
+        }
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), 0.01);
+        for (String jti : revoked.keySet()) {
+            rebuilt.put(jti);
+        }
+        bloom = rebuilt;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,72 @@
+package com.talentbridge.backend.auth.Service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talentbridge.backend.auth.model.JwtClaims;
+import com.talentbridge.backend.auth.model.Users;
+import com.talentbridge.backend.auth.repo.UserRepo;
+
+@Service
+public class TokenVersionService {
+
+    // Cached marker for a user that no longer exists
+    private static final int DELETED_USER = -1;
+
+    private final UserRepo userRepo;
+    private final MyUserDetailsService userDetailsService;
+
+    // userId -> current token version; the TTL bounds how long another node can miss a revocation
+    private final Cache<Long, Integer> versions;
+
+    public TokenVersionService(UserRepo userRepo, MyUserDetailsService userDetailsService,
+                               @Value("${talentbridge.auth.token-version-cache-size:50000}") long cacheSize,
+                               @Value("${talentbridge.auth.token-version-ttl-seconds:30}") long ttlSeconds) {
+        this.userRepo = userRepo;
+        this.userDetailsService = userDetailsService;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // True when the token was issued for the user's current version (not revoked, user still exists)
+    public boolean isCurrent(JwtClaims claims) {
+        if (claims.getUserId() == null) {
+            return false;
+        }
+        int current = versions.get(claims.getUserId(), this::loadVersion);
+        return current != DELETED_USER && current == claims.getTokenVersion();
+    }
+
+    // Invalidate every token issued to the user so far. The bulk update bypasses UsersCacheListener, so
+    // both caches holding the old version are evicted here, after commit so no request re-caches it.
+    @Transactional
+    public void revokeAllTokens(Long userId) {
+        userRepo.incrementTokenVersion(userId);
+        String email = userRepo.findById(userId).map(Users::getEmail).orElse(null);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.invalidate(userId);
+                userDetailsService.evict(email);
+            }
+        });
+    }
+
+    public void evict(Long userId) {
+        versions.invalidate(userId);
+    }
+
+    private Integer loadVersion(Long userId) {
+        Integer version = userRepo.findTokenVersionById(userId);
+        return version != null ? version : DELETED_USER;
+    }
+}
@@ -1,13 +1,20 @@
 package com.talentbridge.backend.auth.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.talentbridge.backend.auth.Exceptions.EmailAlreadyExistsException;
+import com.talentbridge.backend.auth.Exceptions.InvalidRefreshTokenException;
+import com.talentbridge.backend.auth.model.AuthTokens;
+import com.talentbridge.backend.auth.model.JwtClaims;
+import com.talentbridge.backend.auth.model.UserPrincipal;
 import com.talentbridge.backend.auth.model.Users;
 import com.talentbridge.backend.auth.repo.UserRepo;
 
@@ -23,23 +30,80 @@ public class UserService {
     @Autowired
     AuthenticationManager authManager;
 
-    private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private MyUserDetailsService userDetailsService;
+
+    @Autowired
+    private PasswordHashingExecutor hashingExecutor;
+
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
     public Users saveUser(Users user) {
         if (repo.existsByEmail(user.getEmail())) {
         throw new EmailAlreadyExistsException("Email already exists");
         }
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return repo.save(user);
+        Users saved = repo.save(user);
+        userDetailsService.evict(saved.getEmail());
+        return saved;
     }
-    public String verify(Users user) {
+    // BCrypt verification runs on the hashing pool; the request thread is released while it waits
+    public CompletableFuture<AuthTokens> verifyAsync(Users user) {
+        return hashingExecutor.submit(() -> verify(user));
+    }
+
+    public AuthTokens verify(Users user) {
         Authentication authentication = authManager.authenticate(new UsernamePasswordAuthenticationToken(user.getEmail(), user.getPassword()));
    if (authentication.isAuthenticated()) {
 
-        String role = repo.findByEmail(user.getEmail()).getRole();
-        Long id = repo.findByEmail(user.getEmail()).getId();
-        return jwtService.generateToken(user.getEmail(), role, id)  ;
+        // The provider already loaded the user; reuse it instead of querying again for role and id
+        Users dbUser = ((UserPrincipal) authentication.getPrincipal()).getUser();
+        return issueTokens(dbUser);
         } else {
-            return "fail";
+            return null;
         }
     }
+
+    // Exchange a refresh token for a new access token; the refresh token is rotated
+    public AuthTokens refresh(String refreshToken) {
+        Long userId = refreshTokenService.consume(refreshToken);
+        Users dbUser = repo.findById(userId)
+                .orElseThrow(() -> new InvalidRefreshTokenException("User no longer exists"));
+        return issueTokens(dbUser);
+    }
+
+    // Logout: the access token stops working immediately and the refresh token can't be used again
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            try {
+                JwtClaims claims = jwtService.parseClaims(accessToken);
+                revocationList.revoke(claims.getTokenId(), claims.getExpiresAtMillis());
+            } catch (RuntimeException e) {
+                // Already invalid or expired, nothing to revoke
+            }
+        }
+        refreshTokenService.revoke(refreshToken);
+    }
+
+    // Logout everywhere: every access token issued so far fails the token-version check and no
+    // refresh token of the user can be used again
+    @Transactional
+    public void logoutEverywhere(Long userId) {
+        tokenVersionService.revokeAllTokens(userId);
+        refreshTokenService.revokeAllForUser(userId);
+    }
+
+    private AuthTokens issueTokens(Users dbUser) {
+        String accessToken = jwtService.generateToken(dbUser.getEmail(), dbUser.getRole(), dbUser.getId(), dbUser.getTokenVersion());
+        return new AuthTokens(accessToken, refreshTokenService.issue(dbUser.getId()));
+    }
 }
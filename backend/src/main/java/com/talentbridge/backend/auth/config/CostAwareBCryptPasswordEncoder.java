@@ -0,0 +1,32 @@
+package com.talentbridge.backend.auth.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// BCrypt encoder that asks for a rehash whenever the stored cost differs from the configured one,
+// not only when it is lower, so registration and login converge on a single cost.
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int strength;
+
+    public CostAwareBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Format: $2a$NN$<salt+hash>
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        int costEnd = encodedPassword.indexOf('$', 4);
+        if (costEnd < 0) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, costEnd)) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.talentbridge.backend.auth.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Admission control for the anonymous, BCrypt-heavy endpoints (/login, /register).
+// Runs ahead of authentication and answers 429 + Retry-After once a client IP or an email runs out of tokens.
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    // Login/register bodies are tiny; anything bigger is refused with 413
+    private static final int MAX_INSPECTED_BODY = 16 * 1024;
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LoginRateLimitFilter(@Value("${talentbridge.ratelimit.enabled:true}") boolean enabled,
+                                @Value("${talentbridge.ratelimit.ip.capacity:20}") int ipCapacity,
+                                @Value("${talentbridge.ratelimit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                                @Value("${talentbridge.ratelimit.email.capacity:5}") int emailCapacity,
+                                @Value("${talentbridge.ratelimit.email.refill-per-minute:5}") int emailRefillPerMinute,
+                                @Value("${talentbridge.ratelimit.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.enabled = enabled;
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPerMinute, maxTrackedKeys);
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPerMinute, maxTrackedKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !"/login".equals(path) && !"/register".equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long waitNanos = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+
+        byte[] body = readBody(request);
+        if (body == null) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Request body too large");
+            return;
+        }
+        String email = extractEmail(body);
+        if (email != null) {
+            waitNanos = emailLimiter.tryAcquire(email);
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyHttpServletRequest(request, body), response);
+    }
+
+    // Returns the whole body, or null when it is larger than we inspect. Without a Content-Length
+    // (chunked) one byte past the limit is read to tell a full body from a cut-off one.
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        long length = request.getContentLengthLong();
+        if (length > MAX_INSPECTED_BODY) {
+            return null;
+        }
+        InputStream in = request.getInputStream();
+        byte[] body = in.readNBytes(MAX_INSPECTED_BODY + 1);
+        return body.length > MAX_INSPECTED_BODY ? null : body;
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().trim().toLowerCase() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain");
+        response.getWriter().write("Too many requests, please retry later");
+    }
+}
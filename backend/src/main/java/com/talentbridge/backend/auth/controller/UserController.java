@@ -1,28 +1,101 @@
 package com.talentbridge.backend.auth.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.talentbridge.backend.auth.Service.RefreshTokenService;
 import com.talentbridge.backend.auth.Service.UserService;
+import com.talentbridge.backend.auth.model.AuthTokens;
+import com.talentbridge.backend.auth.model.JwtPrincipal;
+import com.talentbridge.backend.auth.model.UserPrincipal;
 import com.talentbridge.backend.auth.model.Users;
 
 @CrossOrigin(origins = "*")
 @RestController
 public class UserController {
+    private static final String REFRESH_COOKIE = "refresh_token";
+
     @Autowired
     private UserService service;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Value("${talentbridge.jwt.refresh-cookie-secure:false}")
+    private boolean secureRefreshCookie;
+
     @PostMapping("/register")
     public Users registerUser(@RequestBody Users user) {
         System.err.println("Hitt");
         return service.saveUser(user);
     }
+    // Body is still the access token; the refresh token travels in an HttpOnly cookie scoped to /token
     @PostMapping("/login")
-    public String login(@RequestBody Users user) {
-        return service.verify(user);
+    public CompletableFuture<ResponseEntity<String>> login(@RequestBody Users user) {
+        return service.verifyAsync(user).thenApply(this::tokenResponse);
+    }
+
+    @PostMapping("/token/refresh")
+    public ResponseEntity<String> refresh(@CookieValue(name = REFRESH_COOKIE, required = false) String refreshToken) {
+        return tokenResponse(service.refresh(refreshToken));
     }
-}
 
+    @PostMapping("/token/revoke")
+    public ResponseEntity<Void> revoke(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader,
+                                       @CookieValue(name = REFRESH_COOKIE, required = false) String refreshToken) {
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        service.logout(accessToken, refreshToken);
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString())
+                .build();
+    }
+
+    // Authenticated (not in the permitted paths), so the user comes from the principal the security
+    // chain built, whether from a bearer token or HTTP Basic, rather than from re-parsing the header
+    @PostMapping("/token/revoke-all")
+    public ResponseEntity<Void> revokeAll(@AuthenticationPrincipal UserDetails principal) {
+        Long userId = principal instanceof JwtPrincipal jwtPrincipal ? jwtPrincipal.getUserId()
+                : principal instanceof UserPrincipal userPrincipal ? userPrincipal.getUser().getId()
+                : null;
+        if (userId == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        service.logoutEverywhere(userId);
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString())
+                .build();
+    }
+
+    private ResponseEntity<String> tokenResponse(AuthTokens tokens) {
+        if (tokens == null) {
+            return ResponseEntity.ok("fail");
+        }
+        long maxAge = refreshTokenService.getRefreshTokenTtl().toSeconds();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshCookie(tokens.getRefreshToken(), maxAge).toString())
+                .body(tokens.getAccessToken());
+    }
+
+    private ResponseCookie refreshCookie(String value, long maxAgeSeconds) {
+        return ResponseCookie.from(REFRESH_COOKIE, value)
+                .httpOnly(true)
+                .secure(secureRefreshCookie)
+                .sameSite("Lax")
+                .path("/token")
+                .maxAge(maxAgeSeconds)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.talentbridge.backend.auth.model;
+
+// Access token returned in the response body plus the opaque refresh token set as a cookie
+public class AuthTokens {
+
+    private final String accessToken;
+    private final String refreshToken;
+
+    public AuthTokens(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+}
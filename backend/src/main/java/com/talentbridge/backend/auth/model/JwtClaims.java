@@ -0,0 +1,50 @@
+package com.talentbridge.backend.auth.model;
+
+// Verified claims of a JWT, parsed once per request and passed through JwtFilter
+public final class JwtClaims {
+
+    private final String tokenId;
+    private final String email;
+    private final String role;
+    private final Long userId;
+    private final int tokenVersion;
+    private final long expiresAtMillis;
+
+    public JwtClaims(String tokenId, String email, String role, Long userId, int tokenVersion, long expiresAtMillis) {
+        this.tokenId = tokenId;
+        this.email = email;
+        this.role = role;
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    // jti claim; null for tokens issued before access tokens carried an id
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    public boolean isExpired() {
+        return expiresAtMillis <= System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,41 @@
+package com.talentbridge.backend.auth.model;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+// Lightweight principal built straight from verified token claims (stateless mode, no Users row)
+public class JwtPrincipal implements UserDetails {
+
+    private final Long userId;
+    private final String email;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public JwtPrincipal(JwtClaims claims) {
+        this.userId = claims.getUserId();
+        this.email = claims.getEmail();
+        this.authorities = Collections.singleton(new SimpleGrantedAuthority(claims.getRole() != null ? claims.getRole() : "USER"));
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,32 @@
+package com.talentbridge.backend.auth.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Logged-out access tokens, kept until they would have expired anyway.
+// Loaded into TokenRevocationList at startup and polled by id so every node sees new revocations.
+@Entity
+@Table(name = "revoked_access_tokens")
+public class RevokedAccessToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public RevokedAccessToken() {}
+
+    public RevokedAccessToken(String jti, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getId() { return id; }
+    public String getJti() { return jti; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+}
@@ -1,12 +1,15 @@
 package com.talentbridge.backend.auth.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 
 @Entity
+@EntityListeners(UsersCacheListener.class)
 public class Users {
 
     @Id
@@ -17,6 +20,11 @@ public class Users {
     private String password;
     private String role;
 
+    // Bumped to revoke every token issued to this user (role change, disable, logout-all)
+    @JsonIgnore
+    @Column(name = "token_version")
+    private Integer tokenVersion = 0;
+
     public Users() {}
 
     public Users(String email, String password, String role) {
@@ -58,6 +66,14 @@ public class Users {
         this.role = role;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion != null ? tokenVersion : 0;
+    }
+
+    public void setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     @Override
     public String toString() {
         return "Users{" +
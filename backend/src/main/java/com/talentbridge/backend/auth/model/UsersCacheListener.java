@@ -0,0 +1,31 @@
+package com.talentbridge.backend.auth.model;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.talentbridge.backend.auth.Service.MyUserDetailsService;
+import com.talentbridge.backend.auth.Service.TokenVersionService;
+
+// Drops cached principals and token versions whenever a Users row is updated (role, password) or deleted
+@Component
+public class UsersCacheListener {
+
+    // Lazy: Hibernate creates this listener while the EntityManagerFactory the services depend on is still starting
+    @Lazy
+    @Autowired
+    private MyUserDetailsService userDetailsService;
+
+    @Lazy
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(Users user) {
+        userDetailsService.evict(user.getEmail());
+        tokenVersionService.evict(user.getId());
+    }
+}
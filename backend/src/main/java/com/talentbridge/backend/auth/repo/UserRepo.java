@@ -1,6 +1,9 @@
 package com.talentbridge.backend.auth.repo;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.talentbridge.backend.auth.model.Users;
@@ -10,5 +13,13 @@ import com.talentbridge.backend.auth.model.Users;
 public interface UserRepo extends JpaRepository<Users, Long>{
     boolean existsByEmail(String email);
     Users findByEmail(String email);
+
+    // Token version only, so revocation checks don't load the whole Users row
+    @Query("SELECT COALESCE(u.tokenVersion, 0) FROM Users u WHERE u.id = :id")
+    Integer findTokenVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Users u SET u.tokenVersion = COALESCE(u.tokenVersion, 0) + 1 WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
 }
 
@@ -0,0 +1,20 @@
+package com.talentbridge.backend.export.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Streaming exports finish on an async request; the container default (30s on Tomcat) would cut
+// off large downloads
+@Configuration
+public class ExportWebConfig implements WebMvcConfigurer {
+
+    @Value("${talentbridge.export.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(timeoutMillis);
+    }
+}
@@ -0,0 +1,14 @@
+package com.talentbridge.backend.export.service;
+
+import java.util.List;
+import java.util.Map;
+
+// A scalar JPQL query plus the column name of each selected value. When listColumn is set, the
+// query is expected to join a collection and order by the first column; consecutive rows with
+// the same first value are then written as one row with that column collected into a list.
+public record ExportQuery(String jpql, Map<String, Object> params, List<String> columns, int listColumn) {
+
+    public static ExportQuery of(String jpql, Map<String, Object> params, List<String> columns) {
+        return new ExportQuery(jpql, params, columns, -1);
+    }
+}
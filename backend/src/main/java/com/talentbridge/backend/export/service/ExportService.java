@@ -0,0 +1,147 @@
+package com.talentbridge.backend.export.service;
+
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Streams the result of a scalar JPQL query to the response as it is read. The query runs in a
+// read-only transaction on the async request thread with a forward-only cursor, so neither the
+// result set nor a persistence context is ever materialised: memory stays flat however many
+// rows are exported.
+@Service
+public class ExportService implements MetricsSource {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTx;
+    private final int fetchSize;
+    private final int flushEvery;
+
+    private final AtomicInteger activeExports = new AtomicInteger();
+    private final AtomicLong completedExports = new AtomicLong();
+    private final AtomicLong failedExports = new AtomicLong();
+    private final AtomicLong exportedRows = new AtomicLong();
+
+    // MySQL Connector/J only streams row by row with a fetch size of Integer.MIN_VALUE; with
+    // useCursorFetch=true (or another driver) configure a positive fetch size instead
+    public ExportService(PlatformTransactionManager transactionManager,
+                         @Value("${talentbridge.export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize,
+                         @Value("${talentbridge.export.flush-every:1000}") int flushEvery) {
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.flushEvery = Math.max(1, flushEvery);
+    }
+
+    public StreamingResponseBody export(ExportQuery query, ExportFormat format) {
+        return output -> {
+            activeExports.incrementAndGet();
+            try {
+                long rows = readOnlyTx.execute(status -> {
+                    try {
+                        return writeRows(query, format, output);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                exportedRows.addAndGet(rows);
+                completedExports.incrementAndGet();
+            } catch (RuntimeException e) {
+                // Usually the client going away mid-download; the response is already committed
+                failedExports.incrementAndGet();
+                System.err.println("Export failed: " + e.getMessage());
+                throw e;
+            } finally {
+                activeExports.decrementAndGet();
+            }
+        };
+    }
+
+    private long writeRows(ExportQuery query, ExportFormat format, OutputStream output) throws IOException {
+        TypedQuery<Object[]> typed = entityManager.createQuery(query.jpql(), Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        query.params().forEach(typed::setParameter);
+
+        RowWriter writer = new RowWriter(output, format, query.columns());
+        long written = 0;
+        try (Stream<Object[]> rows = typed.getResultStream()) {
+            Iterator<Object[]> it = rows.iterator();
+            int listColumn = query.listColumn();
+            Object[] current = null;
+            List<Object> values = null;
+            while (it.hasNext()) {
+                Object[] row = it.next();
+                if (listColumn >= 0) {
+                    if (current != null && Objects.equals(current[0], row[0])) {
+                        if (row[listColumn] != null) {
+                            values.add(row[listColumn]);
+                        }
+                        continue;
+                    }
+                    if (current != null) {
+                        current[listColumn] = values;
+                        written = write(writer, current, written);
+                    }
+                    current = row;
+                    values = new ArrayList<>();
+                    if (row[listColumn] != null) {
+                        values.add(row[listColumn]);
+                    }
+                } else {
+                    written = write(writer, row, written);
+                }
+            }
+            if (current != null) {
+                current[listColumn] = values;
+                written = write(writer, current, written);
+            }
+        }
+        writer.flush();
+        return written;
+    }
+
+    private long write(RowWriter writer, Object[] row, long written) throws IOException {
+        writer.write(row);
+        if (++written % flushEvery == 0) {
+            writer.flush();
+        }
+        return written;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "exports";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("active", activeExports.get());
+        metrics.put("completed", completedExports.get());
+        metrics.put("failed", failedExports.get());
+        metrics.put("rows", exportedRows.get());
+        return metrics;
+    }
+}
@@ -0,0 +1,125 @@
+package com.talentbridge.backend.export.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Writes export rows one at a time as NDJSON (one object per line) or CSV (header row, RFC 4180
+// quoting, list values joined with ';'). Nothing is held beyond the output buffer.
+final class RowWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Writer out;
+    private final JsonGenerator json;
+
+    RowWriter(OutputStream stream, ExportFormat format, List<String> columns) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 16 * 1024);
+        if (format == ExportFormat.NDJSON) {
+            this.json = JSON_FACTORY.createGenerator(out);
+        } else {
+            this.json = null;
+            writeCsvRow(columns.toArray());
+        }
+    }
+
+    void write(Object[] values) throws IOException {
+        if (json != null) {
+            json.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                json.writeFieldName(columns.get(i));
+                writeJsonValue(values[i]);
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } else {
+            writeCsvRow(values);
+        }
+    }
+
+    void flush() throws IOException {
+        if (json != null) {
+            json.flush();
+        }
+        out.flush();
+    }
+
+    private void writeJsonValue(Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof Long || value instanceof Integer) {
+            json.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Number number) {
+            json.writeNumber(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            json.writeBoolean(bool);
+        } else if (value instanceof List<?> list) {
+            json.writeStartArray();
+            for (Object item : list) {
+                writeJsonValue(item);
+            }
+            json.writeEndArray();
+        } else if (value instanceof Enum<?> constant) {
+            json.writeString(constant.name());
+        } else {
+            json.writeString(value.toString());
+        }
+    }
+
+    private void writeCsvRow(Object[] values) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeCsvField(csvText(values[i]));
+        }
+        out.write("\r\n");
+    }
+
+    private static String csvText(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof List<?> list) {
+            StringBuilder joined = new StringBuilder();
+            for (Object item : list) {
+                if (!joined.isEmpty()) {
+                    joined.append(';');
+                }
+                joined.append(item);
+            }
+            return joined.toString();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+
+    private void writeCsvField(String text) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
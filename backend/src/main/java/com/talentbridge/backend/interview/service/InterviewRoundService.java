@@ -7,8 +7,8 @@ import com.talentbridge.backend.interview.model.InterviewMode;
 import com.talentbridge.backend.interview.model.InterviewRound;
 import com.talentbridge.backend.interview.model.RoundStatus;
 import com.talentbridge.backend.interview.repository.InterviewRoundRepository;
-import com.talentbridge.backend.jobs.model.Job;
-import com.talentbridge.backend.jobs.repo.JobRepo;
+import com.talentbridge.backend.jobs.dto.JobDetailDTO;
+import com.talentbridge.backend.jobs.service.JobService;
 import com.talentbridge.backend.notification.service.EmailService;
 import com.talentbridge.backend.recruiter.model.Recruiter;
 import com.talentbridge.backend.recruiter.service.RecruiterService;
@@ -29,7 +29,7 @@ public class InterviewRoundService {
     private InterviewRoundRepository interviewRoundRepository;
 
     @Autowired
-    private JobRepo jobRepository;
+    private JobService jobService;
 
     @Autowired
     private RecruiterService recruiterService;
@@ -49,7 +49,7 @@ public class InterviewRoundService {
                 .orElseThrow(() -> new RuntimeException("Recruiter not found with ID: " + recruiterId));
 
         // Validate that the job exists and belongs to the recruiter
-        Job job = jobRepository.findById(requestDTO.getJobId())
+        JobDetailDTO job = jobService.getJobDetail(requestDTO.getJobId())
                 .orElseThrow(() -> new RuntimeException("Job not found with ID: " + requestDTO.getJobId()));
 
         if (!job.getRecruiter().getRecruiterId().equals(recruiterId)) {
@@ -117,7 +117,7 @@ public class InterviewRoundService {
         // Send email notification
         try {
             UserProfileModel candidateProfile = userProfileService.getProfileByUserId(round.getCandidateId());
-            Job job = jobRepository.findById(round.getJobId())
+            JobDetailDTO job = jobService.getJobDetail(round.getJobId())
                     .orElseThrow(() -> new RuntimeException("Job not found"));
             Recruiter recruiter = recruiterService.getRecruiterById(recruiterId)
                     .orElseThrow(() -> new RuntimeException("Recruiter not found"));
@@ -180,7 +180,7 @@ public class InterviewRoundService {
         InterviewRound firstRound = rounds.get(0);
         
         // Get job and candidate details with error handling
-        Job job = jobRepository.findById(jobId)
+        JobDetailDTO job = jobService.getJobDetail(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
         Recruiter recruiter = recruiterService.getRecruiterById(firstRound.getRecruiterId())
                 .orElseThrow(() -> new RuntimeException("Recruiter not found"));
@@ -239,7 +239,7 @@ public class InterviewRoundService {
         }
 
         // Validate that the job exists and belongs to the recruiter
-        Job job = jobRepository.findById(requestDTO.getJobId())
+        JobDetailDTO job = jobService.getJobDetail(requestDTO.getJobId())
                 .orElseThrow(() -> new RuntimeException("Job not found with ID: " + requestDTO.getJobId()));
 
         if (!job.getRecruiter().getRecruiterId().equals(recruiterId)) {
@@ -299,7 +299,7 @@ public class InterviewRoundService {
 
         // Enrich with additional data
         try {
-            Job job = jobRepository.findById(round.getJobId()).orElse(null);
+            JobDetailDTO job = jobService.getJobDetail(round.getJobId()).orElse(null);
             if (job != null) {
                 dto.setJobTitle(job.getJobTitle());
                 
@@ -1,14 +1,32 @@
 package com.talentbridge.backend.jobs.controller;
 
+import com.talentbridge.backend.export.service.ExportFormat;
+import com.talentbridge.backend.jobs.dto.AutocompleteSuggestionDTO;
+import com.talentbridge.backend.jobs.dto.CursorPageDTO;
+import com.talentbridge.backend.jobs.dto.FacetedSearchResultDTO;
+import com.talentbridge.backend.jobs.dto.JobCardDTO;
+import com.talentbridge.backend.jobs.dto.JobDetailDTO;
+import com.talentbridge.backend.jobs.dto.JobImportResultDTO;
+import com.talentbridge.backend.jobs.importer.JobImportService;
+import com.talentbridge.backend.jobs.dto.SearchResultDTO;
 import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.jobs.search.JobFacetIndex;
 import com.talentbridge.backend.jobs.service.JobService;
 import com.talentbridge.backend.recruiter.model.Recruiter;
 import com.talentbridge.backend.recruiter.repo.RecruiterRepo;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/jobs")
@@ -20,20 +38,35 @@ public class JobController {
     @Autowired
     private RecruiterRepo recruiterRepo;
 
+    @Autowired
+    private JobImportService jobImportService;
+
     // Create job for a recruiter
     @PostMapping("/{recruiterId}")
-    public ResponseEntity<Job> createJob(@PathVariable Long recruiterId, @RequestBody Job job) {
+    public ResponseEntity<JobDetailDTO> createJob(@PathVariable Long recruiterId, @RequestBody Job job) {
         Recruiter recruiter = recruiterRepo.findById(recruiterId)
                 .orElseThrow(() -> new RuntimeException("Recruiter not found"));
 
         job.setRecruiter(recruiter); // ✅ set Recruiter entity
         Job savedJob = jobService.saveJob(job);
-        return ResponseEntity.ok(savedJob);
+        return ResponseEntity.ok(JobDetailDTO.from(savedJob));
+    }
+
+    // Bulk import jobs for a recruiter from a CSV (header row required) or NDJSON body;
+    // the format follows ?format= or else the Content-Type
+    @PostMapping(value = "/{recruiterId}/import", consumes = {"text/csv", "application/x-ndjson", "application/json", "text/plain"})
+    public ResponseEntity<JobImportResultDTO> importJobs(@PathVariable Long recruiterId,
+                                                         @RequestParam(required = false) String format,
+                                                         HttpServletRequest request) throws IOException {
+        String type = format != null ? format : String.valueOf(request.getContentType());
+        JobImportService.Format importFormat = type.toLowerCase().contains("csv")
+                ? JobImportService.Format.CSV : JobImportService.Format.NDJSON;
+        return ResponseEntity.ok(jobImportService.importJobs(recruiterId, request.getInputStream(), importFormat));
     }
 
     // Update job by ID
     @PutMapping("/{jobId}")
-    public ResponseEntity<Job> updateJob(@PathVariable Long jobId, @RequestBody Job updatedJob) {
+    public ResponseEntity<JobDetailDTO> updateJob(@PathVariable Long jobId, @RequestBody Job updatedJob) {
         return jobService.getJobById(jobId)
                 .map(existingJob -> {
                     // Update fields
@@ -44,35 +77,86 @@ public class JobController {
                     existingJob.setSalary(updatedJob.getSalary());
 
                     Job savedJob = jobService.saveJob(existingJob);
-                    return ResponseEntity.ok(savedJob);
+                    return ResponseEntity.ok(JobDetailDTO.from(savedJob));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     // Get all jobs
     @GetMapping
-    public ResponseEntity<List<Job>> getAllJobs() {
+    public ResponseEntity<List<JobDetailDTO>> getAllJobs() {
         return ResponseEntity.ok(jobService.getAllJobs());
     }
 
+    // Get one keyset page of jobs (newest first)
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<JobCardDTO>> getJobsPage(@RequestParam(required = false) Long cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(jobService.getJobsPage(cursor, size));
+    }
+
     // Get job by ID
     @GetMapping("/{id}")
-    public ResponseEntity<Job> getJobById(@PathVariable Long id) {
-        return jobService.getJobById(id)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<JobDetailDTO> getJobById(@PathVariable Long id) {
+        return jobService.getJobDetail(id)
+                .map(job -> {
+                    jobService.recordView(id);
+                    return ResponseEntity.ok(job);
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     // Get jobs by recruiter
     @GetMapping("/recruiter/{recruiterId}")
-    public ResponseEntity<List<Job>> getJobsByRecruiter(@PathVariable Long recruiterId) {
+    public ResponseEntity<List<JobDetailDTO>> getJobsByRecruiter(@PathVariable Long recruiterId) {
         return ResponseEntity.ok(jobService.getJobsByRecruiterId(recruiterId));
     }
 
-    // Search jobs by title
+    // Export all jobs of a recruiter as NDJSON (default) or CSV, streamed row by row
+    @GetMapping("/recruiter/{recruiterId}/export")
+    public ResponseEntity<StreamingResponseBody> exportJobsByRecruiter(@PathVariable Long recruiterId,
+                                                                       @RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"jobs-recruiter-" + recruiterId + "." + exportFormat.getExtension() + "\"")
+                .body(jobService.exportJobsByRecruiter(recruiterId, exportFormat));
+    }
+
+    // Search jobs by title, description, location and skills (BM25-ranked, paginated)
     @GetMapping("/search")
-    public ResponseEntity<List<Job>> searchJobs(@RequestParam String keyword) {
-        return ResponseEntity.ok(jobService.searchJobs(keyword));
+    public ResponseEntity<SearchResultDTO<JobCardDTO>> searchJobs(@RequestParam String keyword,
+                                                                  @RequestParam(required = false) Integer page,
+                                                                  @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(jobService.searchJobs(keyword, page, size));
+    }
+
+    // Type-ahead completions of a job title, skill or location prefix, most used first
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteSuggestionDTO>> autocomplete(@RequestParam String q,
+                                                                        @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(jobService.autocomplete(q, limit));
+    }
+
+    // Filter jobs by location, job type, salary band and skill (repeat a parameter to OR values);
+    // the response also carries counts per value of every facet
+    @GetMapping("/facets")
+    public ResponseEntity<FacetedSearchResultDTO<JobCardDTO>> facetedSearch(@RequestParam(required = false) List<String> location,
+                                                                            @RequestParam(required = false) List<String> jobType,
+                                                                            @RequestParam(required = false) List<String> salary,
+                                                                            @RequestParam(required = false) List<String> skill,
+                                                                            @RequestParam(required = false) Integer page,
+                                                                            @RequestParam(required = false) Integer size) {
+        if (!jobService.isFacetIndexReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        Map<String, List<String>> filters = new HashMap<>();
+        filters.put(JobFacetIndex.LOCATION, location);
+        filters.put(JobFacetIndex.JOB_TYPE, jobType);
+        filters.put(JobFacetIndex.SALARY, salary);
+        filters.put(JobFacetIndex.SKILL, skill);
+        return ResponseEntity.ok(jobService.facetedSearch(filters, page, size));
     }
 
     // Delete job
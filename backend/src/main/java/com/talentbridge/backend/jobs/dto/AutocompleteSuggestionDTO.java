@@ -0,0 +1,26 @@
+package com.talentbridge.backend.jobs.dto;
+
+// One type-ahead completion: the text to show, what it is (TITLE, SKILL or LOCATION) and how
+// many open jobs use it
+public class AutocompleteSuggestionDTO {
+    private String text;
+    private String type;
+    private int jobs;
+
+    public AutocompleteSuggestionDTO() {}
+
+    public AutocompleteSuggestionDTO(String text, String type, int jobs) {
+        this.text = text;
+        this.type = type;
+        this.jobs = jobs;
+    }
+
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public int getJobs() { return jobs; }
+    public void setJobs(int jobs) { this.jobs = jobs; }
+}
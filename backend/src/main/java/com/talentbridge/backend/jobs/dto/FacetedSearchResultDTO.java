@@ -0,0 +1,19 @@
+package com.talentbridge.backend.jobs.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// Search page plus counts per facet value (facet name -> value -> matching jobs)
+public class FacetedSearchResultDTO<T> extends SearchResultDTO<T> {
+    private Map<String, Map<String, Integer>> facets;
+
+    public FacetedSearchResultDTO() {}
+
+    public FacetedSearchResultDTO(List<T> items, long total, int page, int size, Map<String, Map<String, Integer>> facets) {
+        super(items, total, page, size);
+        this.facets = facets;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() { return facets; }
+    public void setFacets(Map<String, Map<String, Integer>> facets) { this.facets = facets; }
+}
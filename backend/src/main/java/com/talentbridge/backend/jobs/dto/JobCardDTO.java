@@ -0,0 +1,53 @@
+package com.talentbridge.backend.jobs.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// List view of a job: what a job card renders, with a short summary instead of the full description.
+// Built by a JPQL constructor expression in JobRepo; skills are attached by a second batch query.
+public class JobCardDTO {
+    public static final int SUMMARY_LENGTH = 200;
+
+    private Long jobId;
+    private String jobTitle;
+    private String summary;
+    private String location;
+    private String job_type;
+    private Double salary;
+    private LocalDateTime created_at;
+    private List<String> skills = new ArrayList<>();
+    private Long recruiterId;
+    private String company_name;
+    private String company_logo;
+
+    public JobCardDTO() {}
+
+    public JobCardDTO(Long jobId, String jobTitle, String summary, String location, String job_type, Double salary,
+                      LocalDateTime created_at, Long recruiterId, String company_name, String company_logo) {
+        this.jobId = jobId;
+        this.jobTitle = jobTitle;
+        this.summary = summary;
+        this.location = location;
+        this.job_type = job_type;
+        this.salary = salary;
+        this.created_at = created_at;
+        this.recruiterId = recruiterId;
+        this.company_name = company_name;
+        this.company_logo = company_logo;
+    }
+
+    public Long getJobId() { return jobId; }
+    public String getJobTitle() { return jobTitle; }
+    public String getSummary() { return summary; }
+    public String getLocation() { return location; }
+    public String getJob_type() { return job_type; }
+    public Double getSalary() { return salary; }
+    public LocalDateTime getCreated_at() { return created_at; }
+    public Long getRecruiterId() { return recruiterId; }
+    public String getCompany_name() { return company_name; }
+    public String getCompany_logo() { return company_logo; }
+
+    public List<String> getSkills() { return skills; }
+    public void setSkills(List<String> skills) { this.skills = skills; }
+}
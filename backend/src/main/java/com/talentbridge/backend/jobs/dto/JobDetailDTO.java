@@ -0,0 +1,67 @@
+package com.talentbridge.backend.jobs.dto;
+
+import com.talentbridge.backend.jobs.model.Job;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Full view of one job with a trimmed recruiter; JSON names match the Job entity so existing clients keep working
+public class JobDetailDTO {
+    private Long jobId;
+    private String jobTitle;
+    private String description;
+    private String location;
+    private String job_type;
+    private Double salary;
+    private LocalDateTime created_at;
+    private LocalDateTime updated_at;
+    private List<String> skills = new ArrayList<>();
+    private RecruiterSummaryDTO recruiter;
+
+    public JobDetailDTO() {}
+
+    public JobDetailDTO(Long jobId, String jobTitle, String description, String location, String job_type, Double salary,
+                        LocalDateTime created_at, LocalDateTime updated_at,
+                        Long recruiterId, String company_name, String company_description, String company_website,
+                        String company_logo, String industry, String recruiterLocation, String linkedin_url) {
+        this.jobId = jobId;
+        this.jobTitle = jobTitle;
+        this.description = description;
+        this.location = location;
+        this.job_type = job_type;
+        this.salary = salary;
+        this.created_at = created_at;
+        this.updated_at = updated_at;
+        this.recruiter = new RecruiterSummaryDTO(recruiterId, company_name, company_description, company_website,
+                company_logo, industry, recruiterLocation, linkedin_url);
+    }
+
+    public static JobDetailDTO from(Job job) {
+        JobDetailDTO dto = new JobDetailDTO();
+        dto.jobId = job.getJobId();
+        dto.jobTitle = job.getJobTitle();
+        dto.description = job.getDescription();
+        dto.location = job.getLocation();
+        dto.job_type = job.getJob_type();
+        dto.salary = job.getSalary();
+        dto.created_at = job.getCreated_at();
+        dto.updated_at = job.getUpdated_at();
+        dto.skills = job.getSkills() == null ? new ArrayList<>() : new ArrayList<>(job.getSkills());
+        dto.recruiter = RecruiterSummaryDTO.from(job.getRecruiter());
+        return dto;
+    }
+
+    public Long getJobId() { return jobId; }
+    public String getJobTitle() { return jobTitle; }
+    public String getDescription() { return description; }
+    public String getLocation() { return location; }
+    public String getJob_type() { return job_type; }
+    public Double getSalary() { return salary; }
+    public LocalDateTime getCreated_at() { return created_at; }
+    public LocalDateTime getUpdated_at() { return updated_at; }
+    public RecruiterSummaryDTO getRecruiter() { return recruiter; }
+
+    public List<String> getSkills() { return skills; }
+    public void setSkills(List<String> skills) { this.skills = skills; }
+}
@@ -0,0 +1,47 @@
+package com.talentbridge.backend.jobs.dto;
+
+import com.talentbridge.backend.recruiter.model.Recruiter;
+
+// Recruiter fields shown alongside a job; JSON names match the Recruiter entity
+public class RecruiterSummaryDTO {
+    private Long recruiterId;
+    private String company_name;
+    private String company_description;
+    private String company_website;
+    private String company_logo;
+    private String industry;
+    private String location;
+    private String linkedin_url;
+
+    public RecruiterSummaryDTO() {}
+
+    public RecruiterSummaryDTO(Long recruiterId, String company_name, String company_description, String company_website,
+                               String company_logo, String industry, String location, String linkedin_url) {
+        this.recruiterId = recruiterId;
+        this.company_name = company_name;
+        this.company_description = company_description;
+        this.company_website = company_website;
+        this.company_logo = company_logo;
+        this.industry = industry;
+        this.location = location;
+        this.linkedin_url = linkedin_url;
+    }
+
+    public static RecruiterSummaryDTO from(Recruiter recruiter) {
+        if (recruiter == null) {
+            return null;
+        }
+        return new RecruiterSummaryDTO(recruiter.getRecruiterId(), recruiter.getCompany_name(),
+                recruiter.getCompany_description(), recruiter.getCompany_website(), recruiter.getCompany_logo(),
+                recruiter.getIndustry(), recruiter.getLocation(), recruiter.getLinkedin_url());
+    }
+
+    public Long getRecruiterId() { return recruiterId; }
+    public String getCompany_name() { return company_name; }
+    public String getCompany_description() { return company_description; }
+    public String getCompany_website() { return company_website; }
+    public String getCompany_logo() { return company_logo; }
+    public String getIndustry() { return industry; }
+    public String getLocation() { return location; }
+    public String getLinkedin_url() { return linkedin_url; }
+}
@@ -0,0 +1,38 @@
+package com.talentbridge.backend.jobs.dto;
+
+import java.util.List;
+
+// One page of ranked search results; total counts every matching job, not just this page
+public class SearchResultDTO<T> {
+    private List<T> items;
+    private long total;
+    private int page;
+    private int size;
+
+    public SearchResultDTO() {}
+
+    public SearchResultDTO(List<T> items, long total, int page, int size) {
+        this.items = items;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+    }
+
+    // Index of the first item on a page; computed in long and capped, so a huge page number lands
+    // past the end (an empty page) instead of overflowing to a negative offset
+    public static int offset(int page, int size) {
+        return (int) Math.min((long) page * size, Integer.MAX_VALUE);
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+}
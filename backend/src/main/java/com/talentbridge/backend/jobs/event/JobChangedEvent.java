@@ -0,0 +1,62 @@
+package com.talentbridge.backend.jobs.event;
+
+import com.talentbridge.backend.jobs.model.Job;
+
+import java.util.List;
+
+// Published by JobService after a job is saved or deleted. Carries a detached snapshot of the
+// fields in-memory indexes need, so listeners never touch lazy JPA state after the commit.
+public final class JobChangedEvent {
+
+    private final Long jobId;
+    private final boolean deleted;
+    private final String jobTitle;
+    private final String description;
+    private final String location;
+    private final String jobType;
+    private final Double salary;
+    private final List<String> skills;
+    private final Long recruiterId;
+
+    private JobChangedEvent(Long jobId, boolean deleted, String jobTitle, String description, String location,
+                            String jobType, Double salary, List<String> skills, Long recruiterId) {
+        this.jobId = jobId;
+        this.deleted = deleted;
+        this.jobTitle = jobTitle;
+        this.description = description;
+        this.location = location;
+        this.jobType = jobType;
+        this.salary = salary;
+        this.skills = skills;
+        this.recruiterId = recruiterId;
+    }
+
+    public static JobChangedEvent saved(Job job) {
+        List<String> skills = job.getSkills() == null ? List.of() : List.copyOf(job.getSkills());
+        Long recruiterId = job.getRecruiter() == null ? null : job.getRecruiter().getRecruiterId();
+        return new JobChangedEvent(job.getJobId(), false, job.getJobTitle(), job.getDescription(), job.getLocation(),
+                job.getJob_type(), job.getSalary(), skills, recruiterId);
+    }
+
+    public static JobChangedEvent deleted(Long jobId) {
+        return new JobChangedEvent(jobId, true, null, null, null, null, null, List.of(), null);
+    }
+
+    public Long getJobId() { return jobId; }
+
+    public boolean isDeleted() { return deleted; }
+
+    public String getJobTitle() { return jobTitle; }
+
+    public String getDescription() { return description; }
+
+    public String getLocation() { return location; }
+
+    public String getJobType() { return jobType; }
+
+    public Double getSalary() { return salary; }
+
+    public List<String> getSkills() { return skills; }
+
+    public Long getRecruiterId() { return recruiterId; }
+}
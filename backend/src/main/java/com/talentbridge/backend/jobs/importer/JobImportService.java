@@ -0,0 +1,359 @@
+package com.talentbridge.backend.jobs.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentbridge.backend.jobs.dto.JobImportResultDTO;
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.recruiter.model.Recruiter;
+import com.talentbridge.backend.recruiter.repo.RecruiterRepo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Bulk job import from CSV (with a header row) or NDJSON. The body is read one record at a time;
+// every chunk of records is parsed, validated and skill-extracted in parallel, then written in a
+// single transaction as JDBC batches. Job ids are AUTO_INCREMENT, which rules out Hibernate insert
+// batching, so jobs and their skills are inserted through JdbcTemplate and the generated ids read back.
+// MySQL Connector/J only sends those as multi-row inserts with rewriteBatchedStatements=true on the
+// JDBC URL (see README); without it each row is still a round trip.
+// A bad row is reported and skipped; a chunk the database rejects is reported as a whole. CSV that
+// can't be split into records any more (an unterminated quote) ends the import at that row.
+@Service
+public class JobImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final int MAX_DESCRIPTION_LENGTH = 5000;
+
+    // Same tables and columns the Job mapping uses
+    private static final String INSERT_JOB = "INSERT INTO job (job_title, description, location, job_type, salary, "
+            + "created_at, updated_at, recruiter_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SKILL = "INSERT INTO job_skills (job_job_id, skills) VALUES (?, ?)";
+
+    @Autowired
+    private RecruiterRepo recruiterRepo;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TransactionTemplate tx;
+    private final int chunkSize;
+    private final int jdbcBatchSize;
+    private final int maxRows;
+    private final int maxErrors;
+
+    public JobImportService(PlatformTransactionManager transactionManager,
+                            @Value("${talentbridge.jobs.import.chunk-size:1000}") int chunkSize,
+                            @Value("${talentbridge.jobs.import.jdbc-batch-size:100}") int jdbcBatchSize,
+                            @Value("${talentbridge.jobs.import.max-rows:100000}") int maxRows,
+                            @Value("${talentbridge.jobs.import.max-errors:1000}") int maxErrors) {
+        this.tx = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.maxRows = maxRows;
+        this.maxErrors = maxErrors;
+    }
+
+    public JobImportResultDTO importJobs(Long recruiterId, InputStream body, Format format) throws IOException {
+        if (!recruiterRepo.existsById(recruiterId)) {
+            throw new RuntimeException("Recruiter not found");
+        }
+        JobImportResultDTO result = new JobImportResultDTO();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        List<RawRow> chunk = new ArrayList<>(chunkSize);
+        if (format == Format.CSV) {
+            CsvRecordReader csv = new CsvRecordReader(reader);
+            List<String> header;
+            try {
+                header = csv.next();
+            } catch (CsvRecordReader.MalformedCsvException e) {
+                throw new IllegalArgumentException("Malformed CSV header: " + e.getMessage());
+            }
+            if (header == null) {
+                return result;
+            }
+            Map<String, Integer> columns = csvColumns(header);
+            if (!columns.containsKey("jobtitle")) {
+                throw new RuntimeException("CSV header must contain a jobTitle column");
+            }
+            List<String> record;
+            int row = 0;
+            try {
+                while ((record = csv.next()) != null) {
+                    if (record.size() == 1 && record.get(0).isBlank()) {
+                        continue;
+                    }
+                    row++;
+                    if (!accept(row, result)) {
+                        break;
+                    }
+                    chunk.add(new RawRow(row, null, record, columns));
+                    if (chunk.size() == chunkSize) {
+                        processChunk(recruiterId, chunk, result);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            } catch (CsvRecordReader.MalformedCsvException e) {
+                // The rest of the body can't be split into records: import what was read before it
+                // (earlier chunks are already committed) and report the broken row, then stop
+                row++;
+                if (accept(row, result)) {
+                    addError(result, row, e.getMessage() + "; the rest of the input was not read");
+                }
+            }
+        } else {
+            String line;
+            int row = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                row++;
+                if (!accept(row, result)) {
+                    break;
+                }
+                chunk.add(new RawRow(row, line, null, null));
+                if (chunk.size() == chunkSize) {
+                    processChunk(recruiterId, chunk, result);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(recruiterId, chunk, result);
+        }
+        return result;
+    }
+
+    private boolean accept(int row, JobImportResultDTO result) {
+        if (row > maxRows) {
+            addError(result, row, "Import limit of " + maxRows + " rows reached; remaining rows were not read");
+            return false;
+        }
+        result.setReceived(row);
+        return true;
+    }
+
+    private void processChunk(Long recruiterId, List<RawRow> chunk, JobImportResultDTO result) {
+        // CPU-bound parsing, validation and skill extraction; results keep input order
+        List<ParsedRow> parsed = chunk.parallelStream().map(this::parse).toList();
+
+        List<ParsedRow> valid = new ArrayList<>(parsed.size());
+        for (ParsedRow row : parsed) {
+            if (row.error != null) {
+                addError(result, row.rowNumber, row.error);
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            tx.executeWithoutResult(status -> {
+                Recruiter recruiter = entityManager.getReference(Recruiter.class, recruiterId);
+                for (int from = 0; from < valid.size(); from += jdbcBatchSize) {
+                    List<Job> batch = new ArrayList<>(jdbcBatchSize);
+                    for (ParsedRow row : valid.subList(from, Math.min(valid.size(), from + jdbcBatchSize))) {
+                        batch.add(row.job);
+                    }
+                    insertJobs(recruiterId, batch);
+                    insertSkills(batch);
+                    for (Job job : batch) {
+                        job.setRecruiter(recruiter);
+                        eventPublisher.publishEvent(JobChangedEvent.saved(job));
+                    }
+                }
+            });
+            result.setImported(result.getImported() + valid.size());
+        } catch (DataAccessException e) {
+            String message = "Chunk rejected by the database: " + e.getMostSpecificCause().getMessage();
+            for (ParsedRow row : valid) {
+                addError(result, row.rowNumber, message);
+            }
+        }
+    }
+
+    // One batch for the jobs; the generated ids come back in insert order and are set on the jobs
+    private void insertJobs(Long recruiterId, List<Job> jobs) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_JOB, new String[] {"job_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        Job job = jobs.get(i);
+                        statement.setString(1, job.getJobTitle());
+                        statement.setString(2, job.getDescription());
+                        statement.setString(3, job.getLocation());
+                        statement.setString(4, job.getJob_type());
+                        statement.setObject(5, job.getSalary(), Types.DOUBLE);
+                        statement.setTimestamp(6, now);
+                        statement.setTimestamp(7, now);
+                        statement.setLong(8, recruiterId);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return jobs.size();
+                    }
+                }, keys);
+        List<Map<String, Object>> generated = keys.getKeyList();
+        if (generated.size() != jobs.size()) {
+            throw new IncorrectResultSizeDataAccessException("Generated job ids", jobs.size(), generated.size());
+        }
+        for (int i = 0; i < jobs.size(); i++) {
+            jobs.get(i).setJobId(((Number) generated.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    private void insertSkills(List<Job> jobs) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Job job : jobs) {
+            if (job.getSkills() != null) {
+                for (String skill : job.getSkills()) {
+                    rows.add(new Object[] {job.getJobId(), skill});
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SKILL, rows);
+        }
+    }
+
+    private ParsedRow parse(RawRow raw) {
+        try {
+            String title;
+            String description;
+            String location;
+            String jobType;
+            String salary;
+            if (raw.line != null) {
+                JsonNode node = objectMapper.readTree(raw.line);
+                if (node == null || !node.isObject()) {
+                    return ParsedRow.error(raw.rowNumber, "Row is not a JSON object");
+                }
+                title = text(node, "jobTitle", "job_title");
+                description = text(node, "description");
+                location = text(node, "location");
+                jobType = text(node, "job_type", "jobType");
+                salary = text(node, "salary");
+            } else {
+                title = field(raw, "jobtitle");
+                description = field(raw, "description");
+                location = field(raw, "location");
+                jobType = field(raw, "jobtype");
+                salary = field(raw, "salary");
+            }
+
+            if (title == null || title.isBlank()) {
+                return ParsedRow.error(raw.rowNumber, "jobTitle is required");
+            }
+            if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+                return ParsedRow.error(raw.rowNumber, "description is longer than " + MAX_DESCRIPTION_LENGTH + " characters");
+            }
+            Double salaryValue = null;
+            if (salary != null && !salary.isBlank()) {
+                try {
+                    salaryValue = Double.valueOf(salary.trim());
+                } catch (NumberFormatException e) {
+                    return ParsedRow.error(raw.rowNumber, "salary is not a number: " + salary);
+                }
+                if (salaryValue < 0) {
+                    return ParsedRow.error(raw.rowNumber, "salary must not be negative");
+                }
+            }
+
+            Job job = new Job();
+            job.setJobTitle(title.trim());
+            job.setDescription(description);
+            job.setLocation(location == null ? null : location.trim());
+            job.setJob_type(jobType == null ? null : jobType.trim());
+            job.setSalary(salaryValue);
+            job.prepareSkills();
+            return new ParsedRow(raw.rowNumber, job, null);
+        } catch (IOException e) {
+            return ParsedRow.error(raw.rowNumber, "Malformed JSON: " + e.getMessage());
+        }
+    }
+
+    private void addError(JobImportResultDTO result, int row, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxErrors) {
+            result.getErrors().add(new JobImportResultDTO.RowError(row, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    // Header names are matched ignoring case, spaces and underscores ("job_title" == "jobTitle")
+    private static Map<String, Integer> csvColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        return columns;
+    }
+
+    private static String field(RawRow raw, String column) {
+        Integer index = raw.columns.get(column);
+        return index == null || index >= raw.fields.size() ? null : raw.fields.get(index);
+    }
+
+    private static String text(JsonNode node, String... names) {
+        for (String name : names) {
+            JsonNode value = node.get(name);
+            if (value != null && !value.isNull()) {
+                return value.asText();
+            }
+        }
+        return null;
+    }
+
+    // Either an NDJSON line or a CSV record with its header mapping
+    private record RawRow(int rowNumber, String line, List<String> fields, Map<String, Integer> columns) {}
+
+    private record ParsedRow(int rowNumber, Job job, String error) {
+        static ParsedRow error(int rowNumber, String error) {
+            return new ParsedRow(rowNumber, null, error);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.talentbridge.backend.jobs.model;
 
 import com.talentbridge.backend.recruiter.model.Recruiter;
+import com.talentbridge.backend.skills.service.SkillCatalog;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
@@ -10,6 +11,8 @@ import java.util.List;
 @Entity
 public class Job {
 
+    // AUTO_INCREMENT, so jobId follows creation order (keyset pages and "newest first" tie-breaks
+    // rely on it). Bulk imports batch their inserts through JDBC instead (see JobImportService).
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long jobId;
@@ -27,6 +30,10 @@ public class Job {
     @ElementCollection
     private List<String> skills;
 
+    // Description the current skills were extracted from (or loaded with)
+    @Transient
+    private String skillsExtractedFrom;
+
     private LocalDateTime created_at;
     private LocalDateTime updated_at;
 
@@ -47,37 +54,42 @@ public class Job {
         extractSkills();
     }
 
+    @PostLoad
+    protected void onLoad() {
+        skillsExtractedFrom = description;
+    }
+
+    // Runs skill extraction ahead of persist (e.g. on an import worker thread); the persist
+    // callback then sees the description unchanged and skips it
+    public void prepareSkills() {
+        extractSkills();
+    }
+
     private void extractSkills() {
         if (description == null || description.isEmpty()) {
+            // Nothing to extract from: keep the skills given, in canonical form
+            if (skills != null) {
+                List<String> canonical = SkillCatalog.getDefault().canonicalizeAll(skills);
+                if (!canonical.equals(skills)) {
+                    skills.clear();
+                    skills.addAll(canonical);
+                }
+            }
+            return;
+        }
+        // Updates that don't touch the description keep the skills already extracted from it
+        if (skills != null && description.equals(skillsExtractedFrom)) {
             return;
         }
 
-        // Common tech skills to look for
-        String[] commonSkills = {
-            "Java", "Python", "JavaScript", "React", "Node.js", "NodeJS", "Spring Boot", "Spring",
-            "SQL", "MySQL", "PostgreSQL", "MongoDB", "AWS", "Docker", "Kubernetes", "Git",
-            "HTML", "CSS", "TypeScript", "Angular", "Vue", "Django", "Flask",
-            "C++", "C#", ".NET", "Rest API", "GraphQL", "Redis", "Linux",
-            "Machine Learning", "AI", "Data Science", "DevOps", "Agile", "Scrum","healthcare"
-        };
-
+        List<String> extracted = SkillCatalog.getDefault().getExtractor().extract(description);
         if (this.skills == null) {
-            this.skills = new ArrayList<>();
+            this.skills = new ArrayList<>(extracted);
         } else {
-            this.skills.clear(); 
-        }
-
-        String lowerDesc = description.toLowerCase();
-
-        for (String skill : commonSkills) {
-            if (lowerDesc.contains(skill.toLowerCase())) {
-                // Avoid duplicates if multiple variations exist (e.g. Node.js vs NodeJS)
-                String normalizedSkill = skill.equalsIgnoreCase("NodeJS") ? "Node.js" : skill;
-                if (!this.skills.contains(normalizedSkill)) {
-                    this.skills.add(normalizedSkill);
-                }
-            }
+            this.skills.clear();
+            this.skills.addAll(extracted);
         }
+        skillsExtractedFrom = description;
     }
 
     // getters & setters
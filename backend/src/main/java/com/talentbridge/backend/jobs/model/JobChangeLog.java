@@ -0,0 +1,38 @@
+package com.talentbridge.backend.jobs.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// One row per committed job save/delete. Every node polls by id to invalidate its local job cache
+// and in-memory indexes for changes made by other nodes.
+@Entity
+@Table(name = "job_change_log")
+public class JobChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobId;
+
+    // Random id of the node that wrote the change; a node skips its own entries
+    @Column(nullable = false, length = 36)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    public JobChangeLog() {}
+
+    public JobChangeLog(Long jobId, String nodeId) {
+        this.jobId = jobId;
+        this.nodeId = nodeId;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public Long getJobId() { return jobId; }
+    public String getNodeId() { return nodeId; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+}
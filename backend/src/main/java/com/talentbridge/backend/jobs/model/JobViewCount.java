@@ -0,0 +1,25 @@
+package com.talentbridge.backend.jobs.model;
+
+import jakarta.persistence.*;
+
+// Accumulated detail-page views per job, flushed periodically from memory; used to warm the job cache
+@Entity
+@Table(name = "job_view_counts", indexes = @Index(name = "idx_job_view_counts_views", columnList = "views"))
+public class JobViewCount {
+
+    @Id
+    private Long jobId;
+
+    @Column(nullable = false)
+    private long views;
+
+    public JobViewCount() {}
+
+    public JobViewCount(Long jobId, long views) {
+        this.jobId = jobId;
+        this.views = views;
+    }
+
+    public Long getJobId() { return jobId; }
+    public long getViews() { return views; }
+}
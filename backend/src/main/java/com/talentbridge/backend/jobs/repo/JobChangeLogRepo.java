@@ -0,0 +1,26 @@
+package com.talentbridge.backend.jobs.repo;
+
+import com.talentbridge.backend.jobs.model.JobChangeLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobChangeLogRepo extends JpaRepository<JobChangeLog, Long> {
+
+    // Changes recorded after the last one this node has seen
+    List<JobChangeLog> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM JobChangeLog c")
+    Long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM JobChangeLog c WHERE c.changedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -1,15 +1,86 @@
 package com.talentbridge.backend.jobs.repo;
 
+import com.talentbridge.backend.jobs.dto.JobCardDTO;
+import com.talentbridge.backend.jobs.dto.JobDetailDTO;
 import com.talentbridge.backend.jobs.model.Job;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface JobRepo extends JpaRepository<Job, Long> {
-    List<Job> findByRecruiter_RecruiterId(Long recruiterId);
-    List<Job> findByJobTitleContainingIgnoreCase(String keyword);
-}
+    // Keyset pages, newest first (jobId grows with creation order)
+    @Query("SELECT j FROM Job j JOIN FETCH j.recruiter ORDER BY j.jobId DESC")
+    List<Job> findFirstPage(Limit limit);
+
+    @Query("SELECT j FROM Job j JOIN FETCH j.recruiter WHERE j.jobId < :cursor ORDER BY j.jobId DESC")
+    List<Job> findPageBefore(@Param("cursor") Long cursor, Limit limit);
+
+    @Query("SELECT j FROM Job j JOIN FETCH j.recruiter WHERE j.jobId IN :ids")
+    List<Job> findAllByIdWithRecruiter(@Param("ids") Collection<Long> ids);
+
+    // Initializes skills for already-loaded jobs in one query instead of one per job
+    @Query("SELECT DISTINCT j FROM Job j LEFT JOIN FETCH j.skills WHERE j IN :jobs")
+    List<Job> fetchSkills(@Param("jobs") Collection<Job> jobs);
+
+    // ---------------- Read projections (only the columns each view renders) ----------------
+
+    String CARD_SELECT = "SELECT new com.talentbridge.backend.jobs.dto.JobCardDTO(j.jobId, j.jobTitle, "
+            + "SUBSTRING(j.description, 1, " + JobCardDTO.SUMMARY_LENGTH + "), j.location, j.job_type, j.salary, "
+            + "j.created_at, r.recruiterId, r.company_name, r.company_logo) FROM Job j JOIN j.recruiter r ";
+
+    String DETAIL_SELECT = "SELECT new com.talentbridge.backend.jobs.dto.JobDetailDTO(j.jobId, j.jobTitle, "
+            + "j.description, j.location, j.job_type, j.salary, j.created_at, j.updated_at, r.recruiterId, "
+            + "r.company_name, r.company_description, r.company_website, r.company_logo, r.industry, r.location, "
+            + "r.linkedin_url) FROM Job j JOIN j.recruiter r ";
+
+    @Query(CARD_SELECT + "ORDER BY j.jobId DESC")
+    List<JobCardDTO> findCardsFirstPage(Limit limit);
+
+    @Query(CARD_SELECT + "WHERE j.jobId < :cursor ORDER BY j.jobId DESC")
+    List<JobCardDTO> findCardsBefore(@Param("cursor") Long cursor, Limit limit);
 
+    @Query(CARD_SELECT + "WHERE j.jobId IN :ids")
+    List<JobCardDTO> findCardsByIds(@Param("ids") Collection<Long> ids);
 
+    @Query(CARD_SELECT + "WHERE LOWER(j.jobTitle) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY j.jobId DESC")
+    List<JobCardDTO> findCardsByTitleContaining(@Param("keyword") String keyword);
 
+    @Query(DETAIL_SELECT + "ORDER BY j.jobId")
+    List<JobDetailDTO> findAllDetails();
 
+    @Query(DETAIL_SELECT + "WHERE j.jobId = :id")
+    Optional<JobDetailDTO> findDetailById(@Param("id") Long id);
+
+    @Query(DETAIL_SELECT + "WHERE j.jobId IN :ids")
+    List<JobDetailDTO> findDetailsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(DETAIL_SELECT + "WHERE r.recruiterId = :recruiterId ORDER BY j.jobId")
+    List<JobDetailDTO> findDetailsByRecruiterId(@Param("recruiterId") Long recruiterId);
+
+    @Query("SELECT j.jobId AS jobId, s AS skill FROM Job j JOIN j.skills s WHERE j.jobId IN :ids")
+    List<JobSkillRow> findSkillsByJobIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT j.jobId AS jobId, s AS skill FROM Job j JOIN j.skills s WHERE j.recruiter.recruiterId = :recruiterId")
+    List<JobSkillRow> findSkillsByRecruiterId(@Param("recruiterId") Long recruiterId);
+
+    // All skills of every job requiring at least one of the given lower-cased skills (pass every alias)
+    @Query("SELECT j.jobId AS jobId, s AS skill FROM Job j JOIN j.skills s WHERE j.jobId IN "
+            + "(SELECT j2.jobId FROM Job j2 JOIN j2.skills s2 WHERE LOWER(TRIM(s2)) IN :skills)")
+    List<JobSkillRow> findSkillsOfJobsWithAnySkill(@Param("skills") Collection<String> skills);
+
+    @Query("SELECT j.jobId AS jobId, s AS skill FROM Job j JOIN j.skills s")
+    List<JobSkillRow> findAllSkills();
+
+    // Streamed by ExportService: one row per (job, skill), ordered so a job's rows are adjacent
+    String EXPORT_BY_RECRUITER = "SELECT j.jobId, j.jobTitle, j.description, j.location, j.job_type, j.salary, "
+            + "j.created_at, j.updated_at, s FROM Job j LEFT JOIN j.skills s "
+            + "WHERE j.recruiter.recruiterId = :recruiterId ORDER BY j.jobId";
+
+    List<String> EXPORT_COLUMNS = List.of("jobId", "jobTitle", "description", "location", "job_type", "salary",
+            "created_at", "updated_at", "skills");
+}
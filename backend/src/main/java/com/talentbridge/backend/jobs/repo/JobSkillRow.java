@@ -0,0 +1,7 @@
+package com.talentbridge.backend.jobs.repo;
+
+// Interface projection for one (job, skill) pair of the skills element collection
+public interface JobSkillRow {
+    Long getJobId();
+    String getSkill();
+}
@@ -0,0 +1,22 @@
+package com.talentbridge.backend.jobs.repo;
+
+import com.talentbridge.backend.jobs.model.JobViewCount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobViewCountRepo extends JpaRepository<JobViewCount, Long> {
+
+    @Modifying
+    @Query("UPDATE JobViewCount v SET v.views = v.views + :delta WHERE v.jobId = :jobId")
+    int addViews(@Param("jobId") Long jobId, @Param("delta") long delta);
+
+    @Query("SELECT v.jobId FROM JobViewCount v ORDER BY v.views DESC")
+    List<Long> findMostViewedJobIds(Limit limit);
+}
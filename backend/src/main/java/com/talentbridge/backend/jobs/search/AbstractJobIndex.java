@@ -0,0 +1,171 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// Lifecycle shared by the in-memory job indexes: a full background rebuild from the database at
+// startup (and on demand), incremental JobChangedEvents applied after commit, and a read/write lock
+// around the index data D. Events that arrive while a rebuild is reading are replayed onto the new
+// data before it is swapped in, so nothing committed mid-rebuild is lost.
+public abstract class AbstractJobIndex<D> {
+
+    @Autowired
+    private JobSnapshotLoader snapshotLoader;
+
+    private final String name;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    // Guarded by lock
+    private D current;
+    private List<JobChangedEvent> pendingDuringRebuild;
+    private boolean ready;
+    private long lastRebuildMillis;
+
+    protected AbstractJobIndex(String name) {
+        this.name = name;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, name + "-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Called once the subclass is fully constructed, so data may depend on injected configuration
+    @PostConstruct
+    public void initData() {
+        lock.writeLock().lock();
+        try {
+            current = newData();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    protected abstract D newData();
+
+    // Must be idempotent: replaying an event already reflected in data leaves it unchanged
+    protected abstract void apply(D data, JobChangedEvent event);
+
+    // Checked after each incremental update; true schedules a full rebuild
+    protected boolean needsRebuild(D data) {
+        return false;
+    }
+
+    // False until the first background build finishes
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    protected <T> T read(Function<D, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        boolean rebuild;
+        lock.writeLock().lock();
+        try {
+            apply(current, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            rebuild = needsRebuild(current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (rebuild) {
+            requestRebuild();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        requestRebuild();
+    }
+
+    public void requestRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            D fresh = newData();
+            int jobs = snapshotLoader.forEachJob(job -> apply(fresh, job));
+
+            lock.writeLock().lock();
+            try {
+                for (JobChangedEvent event : pendingDuringRebuild) {
+                    apply(fresh, event);
+                }
+                current = fresh;
+                pendingDuringRebuild = null;
+                ready = true;
+                lastRebuildMillis = System.currentTimeMillis() - start;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            System.out.println("Built " + name + " from " + jobs + " jobs in " + (System.currentTimeMillis() - start) + " ms");
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            System.out.println("Rebuilding " + name + " failed: " + e.getMessage());
+        } finally {
+            rebuildScheduled.set(false);
+        }
+    }
+
+    protected void putLifecycleMetrics(Map<String, Object> metrics) {
+        lock.readLock().lock();
+        try {
+            metrics.put("ready", ready);
+            metrics.put("lastRebuildMillis", lastRebuildMillis);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
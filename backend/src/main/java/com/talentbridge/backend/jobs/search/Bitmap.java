@@ -0,0 +1,38 @@
+package com.talentbridge.backend.jobs.search;
+
+import java.util.Arrays;
+
+// Growable bitmap over dense slot numbers. Unlike java.util.BitSet it exposes its words, so
+// facet counting can AND several bitmaps and popcount them without allocating intermediates.
+final class Bitmap {
+
+    long[] words = new long[1];
+
+    void set(int bit) {
+        int word = bit >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+        words[word] |= 1L << bit;
+    }
+
+    void clear(int bit) {
+        int word = bit >>> 6;
+        if (word < words.length) {
+            words[word] &= ~(1L << bit);
+        }
+    }
+
+    boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long word(int index) {
+        return index < words.length ? words[index] : 0L;
+    }
+}
@@ -0,0 +1,421 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Type-ahead suggestions from job titles, skills and locations. Each distinct value is weighted
+// by the number of live jobs using it and stored in a radix trie (single-child chains collapsed
+// into one edge) under its full text and under every later word start, so "dev" also suggests
+// "Senior Java Developer". Every node keeps the top-k entries of its subtree, which makes a
+// lookup one walk down the prefix plus a copy of at most k entries. Writes update the counts and
+// re-rank only the nodes on the affected paths.
+@Service
+public class JobAutocompleteIndex extends AbstractJobIndex<JobAutocompleteIndex.TrieData> implements MetricsSource {
+
+    public enum Kind { TITLE, SKILL, LOCATION }
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_WORD_STARTS = 6;
+
+    private final int topK;
+    private final int compactionMinEntries;
+    private final AtomicLong lookups = new AtomicLong();
+
+    public JobAutocompleteIndex(@Value("${talentbridge.autocomplete.top-k:10}") int topK,
+                                @Value("${talentbridge.autocomplete.compaction-min-entries:1000}") int compactionMinEntries) {
+        super("job-autocomplete-index");
+        this.topK = Math.max(1, topK);
+        this.compactionMinEntries = compactionMinEntries;
+    }
+
+    // Most used completions of prefix, best first; at most top-k of them
+    public List<Suggestion> complete(String prefix, int limit) {
+        lookups.incrementAndGet();
+        String key = normalize(prefix);
+        if (key == null || limit <= 0) {
+            return List.of();
+        }
+        return read(data -> data.complete(key, limit));
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    @Override
+    protected TrieData newData() {
+        return new TrieData(topK);
+    }
+
+    @Override
+    protected void apply(TrieData data, JobChangedEvent event) {
+        // Count the new values before releasing the old ones, so an update that keeps its title
+        // doesn't drop and recreate the entry
+        Entry[] previous = data.entriesByJobId.remove(event.getJobId());
+        if (!event.isDeleted()) {
+            data.add(event);
+        }
+        data.release(previous);
+    }
+
+    // Dropped entries leave their (now empty) nodes behind until the next rebuild
+    @Override
+    protected boolean needsRebuild(TrieData data) {
+        return data.removedEntries >= compactionMinEntries && data.removedEntries > data.entries.size();
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "jobAutocompleteIndex";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        putLifecycleMetrics(metrics);
+        read(data -> {
+            metrics.put("jobs", data.entriesByJobId.size());
+            metrics.put("entries", data.entries.size());
+            metrics.put("nodes", data.nodeCount);
+            metrics.put("removedEntries", data.removedEntries);
+            return null;
+        });
+        metrics.put("lookups", lookups.get());
+        return metrics;
+    }
+
+    public record Suggestion(String text, Kind kind, int jobs) {}
+
+    // Lower-cased with runs of whitespace collapsed; null when nothing is left
+    static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(Math.min(text.length(), MAX_KEY_LENGTH));
+        boolean space = false;
+        for (int i = 0; i < text.length() && key.length() < MAX_KEY_LENGTH; i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = key.length() > 0;
+            } else {
+                if (space) {
+                    key.append(' ');
+                    space = false;
+                }
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.isEmpty() ? null : key.toString();
+    }
+
+    // One distinct (kind, normalized text) value and the number of live jobs using it
+    private static final class Entry {
+        final Kind kind;
+        final String id;
+        final String text;
+        final String[] keys;
+        int jobs;
+
+        Entry(Kind kind, String id, String text, String[] keys) {
+            this.kind = kind;
+            this.id = id;
+            this.text = text;
+            this.keys = keys;
+        }
+    }
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private static final class Node {
+        String label;
+        char[] firstChars = new char[0];
+        Node[] children = new Node[0];
+        Entry[] terminals = NO_ENTRIES;
+        Entry[] top = NO_ENTRIES;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(firstChars, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        void putChild(Node child) {
+            char c = child.label.charAt(0);
+            int i = Arrays.binarySearch(firstChars, c);
+            if (i >= 0) {
+                children[i] = child;
+                return;
+            }
+            int at = -i - 1;
+            char[] chars = new char[firstChars.length + 1];
+            Node[] nodes = new Node[children.length + 1];
+            System.arraycopy(firstChars, 0, chars, 0, at);
+            System.arraycopy(children, 0, nodes, 0, at);
+            chars[at] = c;
+            nodes[at] = child;
+            System.arraycopy(firstChars, at, chars, at + 1, firstChars.length - at);
+            System.arraycopy(children, at, nodes, at + 1, children.length - at);
+            firstChars = chars;
+            children = nodes;
+        }
+    }
+
+    static final class TrieData {
+        final int topK;
+        final Node root = new Node("");
+        final Map<String, Entry> entries = new HashMap<>();
+        final Map<Long, Entry[]> entriesByJobId = new HashMap<>();
+        int nodeCount = 1;
+        int removedEntries;
+
+        TrieData(int topK) {
+            this.topK = topK;
+        }
+
+        void add(JobChangedEvent job) {
+            List<Entry> used = new ArrayList<>();
+            addValue(Kind.TITLE, job.getJobTitle(), used);
+            addValue(Kind.LOCATION, job.getLocation(), used);
+            for (String skill : job.getSkills()) {
+                addValue(Kind.SKILL, skill, used);
+            }
+            if (!used.isEmpty()) {
+                entriesByJobId.put(job.getJobId(), used.toArray(NO_ENTRIES));
+            }
+        }
+
+        private void addValue(Kind kind, String value, List<Entry> used) {
+            String key = normalize(value);
+            if (key == null) {
+                return;
+            }
+            String id = kind.ordinal() + key;
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                entry = new Entry(kind, id, value.trim(), keysFor(key));
+                entries.put(id, entry);
+                for (String trieKey : entry.keys) {
+                    insert(trieKey, entry);
+                }
+            } else if (used.contains(entry)) {
+                return;
+            }
+            entry.jobs++;
+            used.add(entry);
+            for (String trieKey : entry.keys) {
+                rerank(trieKey);
+            }
+        }
+
+        void release(Entry[] used) {
+            if (used == null) {
+                return;
+            }
+            for (Entry entry : used) {
+                entry.jobs--;
+                if (entry.jobs == 0) {
+                    entries.remove(entry.id);
+                    removedEntries++;
+                }
+                for (String trieKey : entry.keys) {
+                    if (entry.jobs == 0) {
+                        Node node = find(trieKey, true);
+                        if (node != null) {
+                            node.terminals = without(node.terminals, entry);
+                        }
+                    }
+                    rerank(trieKey);
+                }
+            }
+        }
+
+        // The full text plus the text from each later word start
+        private static String[] keysFor(String key) {
+            List<String> keys = new ArrayList<>();
+            keys.add(key);
+            for (int i = key.indexOf(' '); i >= 0 && keys.size() < MAX_WORD_STARTS; i = key.indexOf(' ', i + 1)) {
+                String suffix = key.substring(i + 1);
+                if (suffix.length() >= 2) {
+                    keys.add(suffix);
+                }
+            }
+            return keys.toArray(new String[0]);
+        }
+
+        private void insert(String key, Entry entry) {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    child = new Node(key.substring(i));
+                    node.putChild(child);
+                    nodeCount++;
+                    node = child;
+                    break;
+                }
+                String label = child.label;
+                int common = 0;
+                while (common < label.length() && i + common < key.length()
+                        && label.charAt(common) == key.charAt(i + common)) {
+                    common++;
+                }
+                if (common < label.length()) {
+                    // Split the edge; the new middle node has the old child as its only child
+                    Node middle = new Node(label.substring(0, common));
+                    child.label = label.substring(common);
+                    middle.putChild(child);
+                    middle.top = child.top;
+                    node.putChild(middle);
+                    nodeCount++;
+                    child = middle;
+                }
+                node = child;
+                i += common;
+            }
+            node.terminals = with(node.terminals, entry);
+        }
+
+        // Node whose path spells key exactly, or (when exact is false) the node below the point
+        // where key ends, possibly part-way along its edge
+        private Node find(String key, boolean exact) {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    return null;
+                }
+                String label = child.label;
+                int j = 0;
+                while (j < label.length() && i < key.length()) {
+                    if (label.charAt(j) != key.charAt(i)) {
+                        return null;
+                    }
+                    i++;
+                    j++;
+                }
+                if (exact && j < label.length()) {
+                    return null;
+                }
+                node = child;
+            }
+            return node;
+        }
+
+        // Recomputes top-k bottom-up along the path of key
+        private void rerank(String key) {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+            int i = 0;
+            while (i < key.length()) {
+                node = node.child(key.charAt(i));
+                if (node == null) {
+                    return;
+                }
+                path.add(node);
+                i += node.label.length();
+            }
+            for (int p = path.size() - 1; p >= 0; p--) {
+                Node current = path.get(p);
+                current.top = best(current);
+            }
+        }
+
+        private Entry[] best(Node node) {
+            Entry[] top = new Entry[topK];
+            int size = 0;
+            size = merge(top, size, node.terminals);
+            for (Node child : node.children) {
+                size = merge(top, size, child.top);
+            }
+            return size == topK ? top : Arrays.copyOf(top, size);
+        }
+
+        // Insertion into a small sorted array; an entry reachable through two keys counts once
+        private int merge(Entry[] top, int size, Entry[] candidates) {
+            for (Entry candidate : candidates) {
+                if (candidate.jobs <= 0 || contains(top, size, candidate)) {
+                    continue;
+                }
+                if (size == top.length && !better(candidate, top[size - 1])) {
+                    continue;
+                }
+                int at = size == top.length ? size - 1 : size++;
+                while (at > 0 && better(candidate, top[at - 1])) {
+                    top[at] = top[at - 1];
+                    at--;
+                }
+                top[at] = candidate;
+            }
+            return size;
+        }
+
+        List<Suggestion> complete(String prefix, int limit) {
+            Node node = find(prefix, false);
+            if (node == null) {
+                return List.of();
+            }
+            Entry[] top = node.top;
+            List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, top.length));
+            for (int i = 0; i < top.length && suggestions.size() < limit; i++) {
+                suggestions.add(new Suggestion(top[i].text, top[i].kind, top[i].jobs));
+            }
+            return suggestions;
+        }
+
+        // More jobs first, then shorter text, then alphabetical
+        private static boolean better(Entry a, Entry b) {
+            if (a.jobs != b.jobs) {
+                return a.jobs > b.jobs;
+            }
+            if (a.text.length() != b.text.length()) {
+                return a.text.length() < b.text.length();
+            }
+            int byText = a.text.compareToIgnoreCase(b.text);
+            return byText != 0 ? byText < 0 : a.kind.ordinal() < b.kind.ordinal();
+        }
+
+        private static boolean contains(Entry[] entries, int size, Entry entry) {
+            for (int i = 0; i < size; i++) {
+                if (entries[i] == entry) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static Entry[] with(Entry[] entries, Entry entry) {
+            if (contains(entries, entries.length, entry)) {
+                return entries;
+            }
+            Entry[] grown = Arrays.copyOf(entries, entries.length + 1);
+            grown[entries.length] = entry;
+            return grown;
+        }
+
+        private static Entry[] without(Entry[] entries, Entry entry) {
+            List<Entry> kept = new ArrayList<>(entries.length);
+            for (Entry e : entries) {
+                if (e != entry) {
+                    kept.add(e);
+                }
+            }
+            return kept.toArray(NO_ENTRIES);
+        }
+    }
+}
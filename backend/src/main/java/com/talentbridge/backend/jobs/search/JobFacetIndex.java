@@ -0,0 +1,282 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Bitmap per facet value (location, job type, salary band, skill) over dense job slots. A filtered
+// result is the AND of per-facet ORs, and each facet's counts are computed against the other
+// facets' filters only (disjunctive faceting), so selecting "Berlin" still shows how many jobs
+// "Remote" would add.
+@Service
+public class JobFacetIndex extends AbstractJobIndex<JobFacetIndex.FacetData> implements MetricsSource {
+
+    public static final String LOCATION = "location";
+    public static final String JOB_TYPE = "jobType";
+    public static final String SALARY = "salary";
+    public static final String SKILL = "skill";
+
+    private static final String[] FACETS = {LOCATION, JOB_TYPE, SALARY, SKILL};
+
+    private final double[] salaryBounds;
+    private final String[] salaryLabels;
+    private final int maxValuesPerFacet;
+
+    public JobFacetIndex(@Value("${talentbridge.facets.salary-buckets:0,30000,60000,90000,120000,150000}") String salaryBuckets,
+                         @Value("${talentbridge.facets.max-values:50}") int maxValuesPerFacet) {
+        super("job-facet-index");
+        this.salaryBounds = Arrays.stream(salaryBuckets.split(",")).map(String::trim).mapToDouble(Double::parseDouble).sorted().toArray();
+        this.salaryLabels = new String[salaryBounds.length];
+        for (int i = 0; i < salaryBounds.length; i++) {
+            salaryLabels[i] = i + 1 < salaryBounds.length
+                    ? format(salaryBounds[i]) + "-" + format(salaryBounds[i + 1])
+                    : format(salaryBounds[i]) + "+";
+        }
+        this.maxValuesPerFacet = maxValuesPerFacet;
+    }
+
+    // filters maps a facet name to the accepted values (OR within a facet, AND across facets)
+    public FacetResult query(Map<String, ? extends Collection<String>> filters, int offset, int limit) {
+        return read(data -> data.query(filters, offset, limit, maxValuesPerFacet));
+    }
+
+    @Override
+    protected FacetData newData() {
+        return new FacetData();
+    }
+
+    @Override
+    protected void apply(FacetData data, JobChangedEvent event) {
+        data.remove(event.getJobId());
+        if (!event.isDeleted()) {
+            data.add(event, salaryBucket(event.getSalary()));
+        }
+    }
+
+    private String salaryBucket(Double salary) {
+        if (salary == null || salaryBounds.length == 0 || salary < salaryBounds[0]) {
+            return null;
+        }
+        int bucket = 0;
+        while (bucket + 1 < salaryBounds.length && salary >= salaryBounds[bucket + 1]) {
+            bucket++;
+        }
+        return salaryLabels[bucket];
+    }
+
+    private static String format(double bound) {
+        return bound == Math.rint(bound) ? Long.toString((long) bound) : Double.toString(bound);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "jobFacetIndex";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        putLifecycleMetrics(metrics);
+        read(data -> {
+            metrics.put("jobs", data.slotByJobId.size());
+            for (int f = 0; f < FACETS.length; f++) {
+                metrics.put(FACETS[f] + "Values", data.facets[f].bitmaps.size());
+            }
+            return null;
+        });
+        return metrics;
+    }
+
+    public record FacetResult(List<Long> jobIds, int total, Map<String, Map<String, Integer>> facets) {}
+
+    // Bitmaps of one facet, keyed by lower-cased value; labels keep the first spelling seen
+    private static final class Facet {
+        final Map<String, Bitmap> bitmaps = new HashMap<>();
+        final Map<String, String> labels = new HashMap<>();
+
+        void add(String value, int slot) {
+            String key = key(value);
+            if (key == null) {
+                return;
+            }
+            bitmaps.computeIfAbsent(key, k -> new Bitmap()).set(slot);
+            labels.putIfAbsent(key, value.trim());
+        }
+
+        void remove(String key, int slot) {
+            Bitmap bitmap = bitmaps.get(key);
+            if (bitmap == null) {
+                return;
+            }
+            bitmap.clear(slot);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+                labels.remove(key);
+            }
+        }
+    }
+
+    private static String key(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static final class FacetData {
+        final Facet[] facets = {new Facet(), new Facet(), new Facet(), new Facet()};
+        final Map<Long, Integer> slotByJobId = new HashMap<>();
+        final Bitmap live = new Bitmap();
+        // Per-slot facet keys, so an update can clear exactly the bits it set
+        long[] jobIds = new long[256];
+        String[][] slotKeys = new String[256][];
+        int[] freeSlots = new int[16];
+        int freeCount;
+        int slotCount;
+
+        void add(JobChangedEvent job, String salaryBucket) {
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : slotCount++;
+            if (slot == jobIds.length) {
+                jobIds = Arrays.copyOf(jobIds, slot * 2);
+                slotKeys = Arrays.copyOf(slotKeys, slot * 2);
+            }
+            List<String> keys = new ArrayList<>();
+            addValue(0, job.getLocation(), slot, keys);
+            addValue(1, job.getJobType(), slot, keys);
+            addValue(2, salaryBucket, slot, keys);
+            for (String skill : job.getSkills()) {
+                addValue(3, skill, slot, keys);
+            }
+            jobIds[slot] = job.getJobId();
+            slotKeys[slot] = keys.toArray(new String[0]);
+            slotByJobId.put(job.getJobId(), slot);
+            live.set(slot);
+        }
+
+        // Keys are stored as "<facet index><lower-cased value>"
+        private void addValue(int facet, String value, int slot, List<String> keys) {
+            String key = key(value);
+            if (key != null) {
+                facets[facet].add(value, slot);
+                keys.add(facet + key);
+            }
+        }
+
+        void remove(Long jobId) {
+            Integer slot = slotByJobId.remove(jobId);
+            if (slot == null) {
+                return;
+            }
+            for (String key : slotKeys[slot]) {
+                facets[key.charAt(0) - '0'].remove(key.substring(1), slot);
+            }
+            slotKeys[slot] = null;
+            live.clear(slot);
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+
+        FacetResult query(Map<String, ? extends Collection<String>> filters, int offset, int limit, int maxValues) {
+            int words = (slotCount + 63) >>> 6;
+
+            // OR of the selected values per facet; null means the facet is unfiltered
+            long[][] masks = new long[FACETS.length][];
+            for (int f = 0; f < FACETS.length; f++) {
+                Collection<String> values = filters.get(FACETS[f]);
+                if (values == null || values.isEmpty()) {
+                    continue;
+                }
+                long[] mask = new long[words];
+                for (String value : values) {
+                    Bitmap bitmap = facets[f].bitmaps.get(key(value));
+                    if (bitmap != null) {
+                        for (int w = 0; w < words; w++) {
+                            mask[w] |= bitmap.word(w);
+                        }
+                    }
+                }
+                masks[f] = mask;
+            }
+
+            long[] matching = new long[words];
+            for (int w = 0; w < words; w++) {
+                long bits = live.word(w);
+                for (long[] mask : masks) {
+                    if (mask != null) {
+                        bits &= mask[w];
+                    }
+                }
+                matching[w] = bits;
+            }
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            long[] base = new long[words];
+            for (int f = 0; f < FACETS.length; f++) {
+                for (int w = 0; w < words; w++) {
+                    long bits = live.word(w);
+                    for (int g = 0; g < FACETS.length; g++) {
+                        if (g != f && masks[g] != null) {
+                            bits &= masks[g][w];
+                        }
+                    }
+                    base[w] = bits;
+                }
+                counts.put(FACETS[f], countValues(facets[f], base, words, maxValues));
+            }
+
+            int total = 0;
+            for (long word : matching) {
+                total += Long.bitCount(word);
+            }
+            long[] ids = new long[total];
+            int n = 0;
+            for (int w = 0; w < words; w++) {
+                long bits = matching[w];
+                while (bits != 0) {
+                    int slot = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    ids[n++] = jobIds[slot];
+                    bits &= bits - 1;
+                }
+            }
+            // Newest first, like the other job listings
+            Arrays.sort(ids);
+            List<Long> page = new ArrayList<>();
+            for (int i = total - 1 - offset; i >= 0 && page.size() < limit; i--) {
+                page.add(ids[i]);
+            }
+            return new FacetResult(page, total, counts);
+        }
+
+        private static Map<String, Integer> countValues(Facet facet, long[] base, int words, int maxValues) {
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+            for (Map.Entry<String, Bitmap> value : facet.bitmaps.entrySet()) {
+                Bitmap bitmap = value.getValue();
+                int count = 0;
+                for (int w = 0; w < words; w++) {
+                    count += Long.bitCount(bitmap.word(w) & base[w]);
+                }
+                if (count > 0) {
+                    entries.add(Map.entry(facet.labels.get(value.getKey()), count));
+                }
+            }
+            entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (int i = 0; i < entries.size() && i < maxValues; i++) {
+                counts.put(entries.get(i).getKey(), entries.get(i).getValue());
+            }
+            return counts;
+        }
+    }
+}
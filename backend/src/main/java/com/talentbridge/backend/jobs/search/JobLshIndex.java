@@ -0,0 +1,217 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Approximate nearest neighbours over job skill sets: MinHash signatures of bands * rows hashes,
+// bucketed per band (LSH banding). A candidate's skill set only meets the jobs sharing a whole band
+// with it, so a lookup touches a handful of buckets instead of the catalogue. A job with Jaccard
+// similarity s to the query is shortlisted with probability 1 - (1 - s^rows)^bands: more bands
+// raise recall, more rows per band make buckets more selective.
+@Service
+public class JobLshIndex extends AbstractJobIndex<JobLshIndex.LshData> implements MetricsSource {
+
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong shortlisted = new AtomicLong();
+
+    public JobLshIndex(@Value("${talentbridge.recommendations.lsh.bands:16}") int bands,
+                       @Value("${talentbridge.recommendations.lsh.rows:2}") int rows) {
+        super("job-lsh-index");
+        this.bands = Math.max(1, bands);
+        this.rows = Math.max(1, rows);
+        this.seeds = new long[this.bands * this.rows];
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < seeds.length; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            seeds[i] = seed;
+        }
+    }
+
+    // Jobs sharing at least one band with the (normalized) skills; no particular order
+    public Set<Long> candidates(Collection<String> skills) {
+        lookups.incrementAndGet();
+        if (skills.isEmpty()) {
+            return Set.of();
+        }
+        long[] bandKeys = bandKeys(signature(skills));
+        Set<Long> result = read(data -> {
+            Set<Long> jobIds = new HashSet<>();
+            for (int band = 0; band < bands; band++) {
+                Bucket bucket = data.buckets[band].get(bandKeys[band]);
+                if (bucket != null) {
+                    for (int i = 0; i < bucket.size; i++) {
+                        jobIds.add(bucket.jobIds[i]);
+                    }
+                }
+            }
+            return jobIds;
+        });
+        shortlisted.addAndGet(result.size());
+        return result;
+    }
+
+    public int size() {
+        return read(data -> data.bandKeysByJob.size());
+    }
+
+    @Override
+    protected LshData newData() {
+        return new LshData(bands);
+    }
+
+    @Override
+    protected void apply(LshData data, JobChangedEvent event) {
+        long[] previous = data.bandKeysByJob.remove(event.getJobId());
+        if (previous != null) {
+            for (int band = 0; band < bands; band++) {
+                Bucket bucket = data.buckets[band].get(previous[band]);
+                if (bucket != null && bucket.remove(event.getJobId()) == 0) {
+                    data.buckets[band].remove(previous[band]);
+                }
+            }
+        }
+        if (event.isDeleted() || event.getSkills().isEmpty()) {
+            return;
+        }
+        Set<String> skills = new HashSet<>();
+        for (String skill : event.getSkills()) {
+            skills.add(SkillDictionary.normalize(skill));
+        }
+        long[] keys = bandKeys(signature(skills));
+        data.bandKeysByJob.put(event.getJobId(), keys);
+        for (int band = 0; band < bands; band++) {
+            data.buckets[band].computeIfAbsent(keys[band], key -> new Bucket()).add(event.getJobId());
+        }
+    }
+
+    // Minimum of each seeded hash over the skills; duplicates in skills don't change it
+    private long[] signature(Collection<String> skills) {
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String skill : skills) {
+            long base = fnv1a(skill);
+            for (int i = 0; i < seeds.length; i++) {
+                long h = mix(base ^ seeds[i]);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private long[] bandKeys(long[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+            for (int row = 0; row < rows; row++) {
+                key = mix(key * 31 + signature[band * rows + row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "jobLshIndex";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        putLifecycleMetrics(metrics);
+        metrics.put("bands", bands);
+        metrics.put("rows", rows);
+        read(data -> {
+            int buckets = 0;
+            int largest = 0;
+            for (Map<Long, Bucket> band : data.buckets) {
+                buckets += band.size();
+                for (Bucket bucket : band.values()) {
+                    largest = Math.max(largest, bucket.size);
+                }
+            }
+            metrics.put("jobs", data.bandKeysByJob.size());
+            metrics.put("buckets", buckets);
+            metrics.put("largestBucket", largest);
+            return null;
+        });
+        long lookupCount = lookups.get();
+        metrics.put("lookups", lookupCount);
+        metrics.put("avgShortlist", lookupCount == 0 ? 0 : shortlisted.get() / lookupCount);
+        return metrics;
+    }
+
+    static final class LshData {
+        final Map<Long, long[]> bandKeysByJob = new HashMap<>();
+        final Map<Long, Bucket>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        LshData(int bands) {
+            buckets = new Map[bands];
+            for (int band = 0; band < bands; band++) {
+                buckets[band] = new HashMap<>();
+            }
+        }
+    }
+
+    // Unordered job ids of one band bucket
+    private static final class Bucket {
+        long[] jobIds = new long[2];
+        int size;
+
+        void add(long jobId) {
+            if (size == jobIds.length) {
+                jobIds = Arrays.copyOf(jobIds, size * 2);
+            }
+            jobIds[size++] = jobId;
+        }
+
+        // Swaps the last id into the gap; returns the remaining size
+        int remove(long jobId) {
+            for (int i = 0; i < size; i++) {
+                if (jobIds[i] == jobId) {
+                    jobIds[i] = jobIds[--size];
+                    break;
+                }
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory inverted index over job title, description, location and skills, ranked with BM25.
+// An updated job gets a fresh doc id and its old one is tombstoned, so posting lists stay sorted
+// and append-only; a full rebuild compacts them once tombstones outnumber live documents.
+@Service
+public class JobSearchIndex extends AbstractJobIndex<JobSearchIndex.IndexData> implements MetricsSource {
+
+    // Field weights are folded into term frequency and document length (a simple BM25F)
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SKILL_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final AtomicLong searches = new AtomicLong();
+    private final int compactionMinDocs;
+
+    public JobSearchIndex(@Value("${talentbridge.search.compaction-min-docs:1000}") int compactionMinDocs) {
+        super("job-search-index");
+        this.compactionMinDocs = compactionMinDocs;
+    }
+
+    // Returns the job ids ranked at [offset, offset + limit) plus the total number of matches
+    public SearchHits search(String query, int offset, int limit) {
+        searches.incrementAndGet();
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchHits(List.of(), 0);
+        }
+        return read(data -> data.search(terms, offset, limit));
+    }
+
+    @Override
+    protected IndexData newData() {
+        return new IndexData();
+    }
+
+    @Override
+    protected void apply(IndexData data, JobChangedEvent event) {
+        data.apply(event);
+    }
+
+    @Override
+    protected boolean needsRebuild(IndexData data) {
+        return data.docCount >= compactionMinDocs && data.deletedCount * 2 > data.docCount;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "jobSearchIndex";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        putLifecycleMetrics(metrics);
+        read(data -> {
+            metrics.put("liveDocs", data.docCount - data.deletedCount);
+            metrics.put("deletedDocs", data.deletedCount);
+            metrics.put("terms", data.postings.size());
+            return null;
+        });
+        metrics.put("searches", searches.get());
+        return metrics;
+    }
+
+    public record SearchHits(List<Long> jobIds, int total) {}
+
+    // Doc ids and term frequencies for one term, in ascending doc id order
+    private static final class Postings {
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+    }
+
+    // Per-thread score accumulator, reused across queries to avoid allocating per search
+    private static final class Scratch {
+        float[] scores = new float[0];
+        int[] touched = new int[0];
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    static final class IndexData {
+        final Map<String, Postings> postings = new HashMap<>();
+        final Map<Long, Integer> docByJobId = new HashMap<>();
+        final BitSet deleted = new BitSet();
+        long[] jobIds = new long[256];
+        int[] lengths = new int[256];
+        int docCount;
+        int deletedCount;
+        long liveLength;
+
+        void apply(JobChangedEvent event) {
+            remove(event.getJobId());
+            if (!event.isDeleted()) {
+                add(event);
+            }
+        }
+
+        private void remove(Long jobId) {
+            Integer doc = docByJobId.remove(jobId);
+            if (doc != null) {
+                deleted.set(doc);
+                deletedCount++;
+                liveLength -= lengths[doc];
+            }
+        }
+
+        private void add(JobChangedEvent job) {
+            Map<String, Integer> freqs = new HashMap<>();
+            int length = addField(freqs, job.getJobTitle(), TITLE_WEIGHT)
+                    + addField(freqs, job.getDescription(), DESCRIPTION_WEIGHT)
+                    + addField(freqs, job.getLocation(), LOCATION_WEIGHT);
+            for (String skill : job.getSkills()) {
+                length += addField(freqs, skill, SKILL_WEIGHT);
+            }
+            if (freqs.isEmpty()) {
+                return;
+            }
+
+            int doc = docCount++;
+            if (doc == jobIds.length) {
+                jobIds = Arrays.copyOf(jobIds, doc * 2);
+                lengths = Arrays.copyOf(lengths, doc * 2);
+            }
+            jobIds[doc] = job.getJobId();
+            lengths[doc] = length;
+            liveLength += length;
+            docByJobId.put(job.getJobId(), doc);
+            for (Map.Entry<String, Integer> entry : freqs.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new Postings()).add(doc, entry.getValue());
+            }
+        }
+
+        private static int addField(Map<String, Integer> freqs, String text, int weight) {
+            List<String> tokens = SearchTokenizer.tokenize(text);
+            for (String token : tokens) {
+                freqs.merge(token, weight, Integer::sum);
+            }
+            return tokens.size() * weight;
+        }
+
+        SearchHits search(Set<String> terms, int offset, int limit) {
+            int live = docCount - deletedCount;
+            if (live == 0) {
+                return new SearchHits(List.of(), 0);
+            }
+            float avgLength = Math.max(1f, (float) liveLength / live);
+
+            Scratch scratch = SCRATCH.get();
+            if (scratch.scores.length < docCount) {
+                scratch.scores = new float[jobIds.length];
+                scratch.touched = new int[jobIds.length];
+            }
+            float[] scores = scratch.scores;
+            int[] touched = scratch.touched;
+            int touchedCount = 0;
+
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                // Tombstoned docs still count toward df until the next rebuild; close enough for ranking
+                int df = Math.min(list.size, live);
+                float idf = (float) Math.log(1 + (live - df + 0.5) / (df + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (deleted.get(doc)) {
+                        continue;
+                    }
+                    float tf = list.freqs[i];
+                    float norm = K1 * (1 - B + B * lengths[doc] / avgLength);
+                    if (scores[doc] == 0f) {
+                        touched[touchedCount++] = doc;
+                    }
+                    scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+
+            // Min-heap of the best offset + limit docs; ties go to the newer job
+            int k = (int) Math.min((long) offset + limit, touchedCount);
+            int[] heap = new int[k];
+            int heapSize = 0;
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                if (heapSize < k) {
+                    heap[heapSize] = doc;
+                    siftUp(heap, heapSize++, scores);
+                } else if (k > 0 && better(doc, heap[0], scores)) {
+                    heap[0] = doc;
+                    siftDown(heap, heapSize, scores);
+                }
+            }
+
+            int[] ranked = new int[heapSize];
+            for (int i = heapSize - 1; i >= 0; i--) {
+                ranked[i] = heap[0];
+                heap[0] = heap[--heapSize];
+                siftDown(heap, heapSize, scores);
+            }
+
+            List<Long> page = new ArrayList<>(Math.max(0, ranked.length - offset));
+            for (int i = offset; i < ranked.length; i++) {
+                page.add(jobIds[ranked[i]]);
+            }
+
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0f;
+            }
+            return new SearchHits(page, touchedCount);
+        }
+
+        private static boolean better(int a, int b, float[] scores) {
+            return scores[a] > scores[b] || (scores[a] == scores[b] && a > b);
+        }
+
+        private static void siftUp(int[] heap, int i, float[] scores) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(heap[parent], heap[i], scores)) {
+                    break;
+                }
+                swap(heap, i, parent);
+                i = parent;
+            }
+        }
+
+        private static void siftDown(int[] heap, int size, float[] scores) {
+            int i = 0;
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left + 1 < size && better(heap[left], heap[left + 1], scores) ? left + 1 : left;
+                if (!better(heap[i], heap[smallest], scores)) {
+                    return;
+                }
+                swap(heap, i, smallest);
+                i = smallest;
+            }
+        }
+
+        private static void swap(int[] heap, int i, int j) {
+            int tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+    }
+}
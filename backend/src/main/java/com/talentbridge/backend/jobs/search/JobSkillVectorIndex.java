@@ -0,0 +1,305 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import com.talentbridge.backend.skills.service.SkillVector;
+import com.talentbridge.backend.skills.service.SkillWeights;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Every job's skills as a SkillVector over the shared SkillDictionary, in dense slots. Ranking a
+// skill set against the whole catalogue is a scan of cosine similarities that keeps the best
+// offset + limit in a bounded heap; large scans are split into ranges across the fork/join pool
+// and their heaps merged.
+@Service
+public class JobSkillVectorIndex extends AbstractJobIndex<JobSkillVectorIndex.VectorData> implements MetricsSource {
+
+    private final SkillDictionary dictionary;
+    private final int splitThreshold;
+    private final AtomicLong scans = new AtomicLong();
+
+    public JobSkillVectorIndex(SkillDictionary dictionary,
+                               @Value("${talentbridge.recommendations.split-threshold:8192}") int splitThreshold) {
+        super("job-skill-vector-index");
+        this.dictionary = dictionary;
+        this.splitThreshold = Math.max(256, splitThreshold);
+    }
+
+    // Jobs ranked by cosine similarity to skills (normalized, looked up without interning), best
+    // first, newest first on ties; jobs sharing no skill are left out. Weights null scores every skill 1.0.
+    public RankedJobs rank(Collection<String> skills, SkillWeights weights, int offset, int limit) {
+        scans.incrementAndGet();
+        SkillVector query = SkillVector.lookup(dictionary, skills);
+        if (query.isEmpty() || limit <= 0) {
+            return new RankedJobs(List.of(), List.of(), 0);
+        }
+        int k = offset + limit;
+        return read(data -> {
+            TopK top = data.slotCount <= splitThreshold
+                    ? new ScanTask(data, query, weights, 0, data.slotCount, k, splitThreshold).compute()
+                    : ForkJoinPool.commonPool().invoke(new ScanTask(data, query, weights, 0, data.slotCount, k, splitThreshold));
+            return top.toRanked(data, offset);
+        });
+    }
+
+    // Same ranking restricted to a shortlist of jobs (e.g. from JobLshIndex); unknown ids are skipped
+    public RankedJobs rankAmong(Collection<Long> jobIds, Collection<String> skills, SkillWeights weights,
+                                int offset, int limit) {
+        scans.incrementAndGet();
+        SkillVector query = SkillVector.lookup(dictionary, skills);
+        if (query.isEmpty() || limit <= 0 || jobIds.isEmpty()) {
+            return new RankedJobs(List.of(), List.of(), 0);
+        }
+        return read(data -> {
+            TopK top = new TopK(offset + limit);
+            for (Long jobId : jobIds) {
+                Integer slot = data.slotByJobId.get(jobId);
+                if (slot != null) {
+                    SkillVector vector = data.vectors[slot];
+                    double score = weights == null ? query.cosine(vector) : query.cosine(vector, weights);
+                    if (score > 0) {
+                        top.offer(slot, score, data.jobIds[slot]);
+                    }
+                }
+            }
+            return top.toRanked(data, offset);
+        });
+    }
+
+    @Override
+    protected VectorData newData() {
+        return new VectorData();
+    }
+
+    @Override
+    protected void apply(VectorData data, JobChangedEvent event) {
+        data.remove(event.getJobId());
+        if (!event.isDeleted() && !event.getSkills().isEmpty()) {
+            List<String> skills = new ArrayList<>(event.getSkills().size());
+            for (String skill : event.getSkills()) {
+                skills.add(SkillDictionary.normalize(skill));
+            }
+            data.add(event.getJobId(), SkillVector.of(dictionary, skills));
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "jobSkillVectorIndex";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        putLifecycleMetrics(metrics);
+        read(data -> {
+            metrics.put("jobs", data.slotByJobId.size());
+            return null;
+        });
+        metrics.put("scans", scans.get());
+        return metrics;
+    }
+
+    public record RankedJobs(List<Long> jobIds, List<Double> scores, int total) {}
+
+    static final class VectorData {
+        final Map<Long, Integer> slotByJobId = new HashMap<>();
+        long[] jobIds = new long[256];
+        SkillVector[] vectors = new SkillVector[256];
+        int[] freeSlots = new int[16];
+        int freeCount;
+        int slotCount;
+
+        void add(Long jobId, SkillVector vector) {
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : slotCount++;
+            if (slot == jobIds.length) {
+                jobIds = Arrays.copyOf(jobIds, slot * 2);
+                vectors = Arrays.copyOf(vectors, slot * 2);
+            }
+            jobIds[slot] = jobId;
+            vectors[slot] = vector;
+            slotByJobId.put(jobId, slot);
+        }
+
+        void remove(Long jobId) {
+            Integer slot = slotByJobId.remove(jobId);
+            if (slot == null) {
+                return;
+            }
+            vectors[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+    }
+
+    // Scores a slot range, splitting it in halves until it is small enough to scan directly.
+    // Runs while the caller holds the read lock, so the data cannot change underneath.
+    private static final class ScanTask extends RecursiveTask<TopK> {
+        private final VectorData data;
+        private final SkillVector query;
+        private final SkillWeights weights;
+        private final int from;
+        private final int to;
+        private final int k;
+        private final int threshold;
+
+        ScanTask(VectorData data, SkillVector query, SkillWeights weights, int from, int to, int k, int threshold) {
+            this.data = data;
+            this.query = query;
+            this.weights = weights;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= threshold) {
+                TopK top = new TopK(k);
+                for (int slot = from; slot < to; slot++) {
+                    SkillVector vector = data.vectors[slot];
+                    if (vector != null) {
+                        double score = weights == null ? query.cosine(vector) : query.cosine(vector, weights);
+                        if (score > 0) {
+                            top.offer(slot, score, data.jobIds[slot]);
+                        }
+                    }
+                }
+                return top;
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(data, query, weights, from, mid, k, threshold);
+            left.fork();
+            TopK right = new ScanTask(data, query, weights, mid, to, k, threshold).compute();
+            TopK merged = left.join();
+            merged.addAll(right);
+            return merged;
+        }
+    }
+
+    // Min-heap of the k best (score, jobId) pairs seen, plus a count of every match offered
+    private static final class TopK {
+        final int capacity;
+        int[] slots;
+        double[] scores;
+        long[] jobIds;
+        int size;
+        int matches;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+            int initial = Math.min(capacity, 64);
+            this.slots = new int[initial];
+            this.scores = new double[initial];
+            this.jobIds = new long[initial];
+        }
+
+        void offer(int slot, double score, long jobId) {
+            matches++;
+            push(slot, score, jobId);
+        }
+
+        private void push(int slot, double score, long jobId) {
+            if (size < capacity) {
+                if (size == slots.length) {
+                    int grown = Math.min(capacity, size * 2);
+                    slots = Arrays.copyOf(slots, grown);
+                    scores = Arrays.copyOf(scores, grown);
+                    jobIds = Arrays.copyOf(jobIds, grown);
+                }
+                set(size, slot, score, jobId);
+                siftUp(size++);
+            } else if (better(score, jobId, scores[0], jobIds[0])) {
+                set(0, slot, score, jobId);
+                siftDown(0);
+            }
+        }
+
+        void addAll(TopK other) {
+            matches += other.matches;
+            for (int i = 0; i < other.size; i++) {
+                push(other.slots[i], other.scores[i], other.jobIds[i]);
+            }
+        }
+
+        RankedJobs toRanked(VectorData data, int offset) {
+            int count = size;
+            int[] order = new int[count];
+            double[] orderScores = new double[count];
+            for (int i = count - 1; i >= 0; i--) {
+                order[i] = slots[0];
+                orderScores[i] = scores[0];
+                set(0, slots[size - 1], scores[size - 1], jobIds[size - 1]);
+                size--;
+                siftDown(0);
+            }
+            List<Long> ids = new ArrayList<>(Math.max(0, count - offset));
+            List<Double> pageScores = new ArrayList<>(Math.max(0, count - offset));
+            for (int i = offset; i < count; i++) {
+                ids.add(data.jobIds[order[i]]);
+                pageScores.add(orderScores[i]);
+            }
+            return new RankedJobs(ids, pageScores, matches);
+        }
+
+        private static boolean better(double score, long jobId, double otherScore, long otherJobId) {
+            return score > otherScore || (score == otherScore && jobId > otherJobId);
+        }
+
+        private void set(int i, int slot, double score, long jobId) {
+            slots[i] = slot;
+            scores[i] = score;
+            jobIds[i] = jobId;
+        }
+
+        private void swap(int i, int j) {
+            int slot = slots[i];
+            double score = scores[i];
+            long jobId = jobIds[i];
+            set(i, slots[j], scores[j], jobIds[j]);
+            set(j, slot, score, jobId);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(scores[parent], jobIds[parent], scores[i], jobIds[i])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int worst = left + 1 < size && better(scores[left], jobIds[left], scores[left + 1], jobIds[left + 1])
+                        ? left + 1 : left;
+                if (!better(scores[i], jobIds[i], scores[worst], jobIds[worst])) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.jobs.repo.JobRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Streams every job as a JobChangedEvent snapshot for in-memory index rebuilds. Reads keyset batches,
+// each in its own short read-only transaction, so a rebuild never holds a connection for long.
+@Component
+public class JobSnapshotLoader {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    private final TransactionTemplate readOnlyTx;
+
+    public JobSnapshotLoader(PlatformTransactionManager transactionManager) {
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    // Returns the number of jobs passed to the consumer, newest first
+    public int forEachJob(Consumer<JobChangedEvent> consumer) {
+        int count = 0;
+        Long cursor = null;
+        while (true) {
+            Long before = cursor;
+            List<JobChangedEvent> batch = readOnlyTx.execute(status -> loadBatch(before));
+            if (batch == null || batch.isEmpty()) {
+                return count;
+            }
+            for (JobChangedEvent job : batch) {
+                consumer.accept(job);
+            }
+            count += batch.size();
+            cursor = batch.get(batch.size() - 1).getJobId();
+        }
+    }
+
+    // Current snapshots for the given ids; ids with no row come back as deletions
+    public List<JobChangedEvent> load(Collection<Long> jobIds) {
+        List<JobChangedEvent> snapshots = readOnlyTx.execute(status -> {
+            List<Job> jobs = jobRepo.findAllByIdWithRecruiter(jobIds);
+            if (!jobs.isEmpty()) {
+                jobRepo.fetchSkills(jobs);
+            }
+            return toSnapshots(jobs);
+        });
+        Set<Long> found = new HashSet<>();
+        for (JobChangedEvent snapshot : snapshots) {
+            found.add(snapshot.getJobId());
+        }
+        for (Long jobId : jobIds) {
+            if (!found.contains(jobId)) {
+                snapshots.add(JobChangedEvent.deleted(jobId));
+            }
+        }
+        return snapshots;
+    }
+
+    private List<JobChangedEvent> loadBatch(Long cursor) {
+        Limit limit = Limit.of(BATCH_SIZE);
+        List<Job> jobs = cursor == null ? jobRepo.findFirstPage(limit) : jobRepo.findPageBefore(cursor, limit);
+        if (!jobs.isEmpty()) {
+            jobRepo.fetchSkills(jobs);
+        }
+        return toSnapshots(jobs);
+    }
+
+    private static List<JobChangedEvent> toSnapshots(List<Job> jobs) {
+        List<JobChangedEvent> snapshots = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            snapshots.add(JobChangedEvent.saved(job));
+        }
+        return snapshots;
+    }
+}
@@ -0,0 +1,52 @@
+package com.talentbridge.backend.jobs.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Lower-cases and splits text into index terms. Keeps the characters that make tech terms
+// distinct ("c++", "c#", "node.js", ".net") and drops common English stop words.
+public final class SearchTokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "our", "the", "to", "we", "will", "with", "you", "your");
+
+    private SearchTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if ((c == '+' || c == '#') && current.length() > 0) {
+                current.append(c);
+            } else if (c == '.' && i + 1 < length && Character.isLetterOrDigit(lower.charAt(i + 1))) {
+                // "node.js", ".net"; a '.' that ends a sentence falls through to the split below
+                current.append(c);
+            } else {
+                flush(current, tokens);
+            }
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        if (current.length() > 0) {
+            String token = current.toString();
+            if (!STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+            current.setLength(0);
+        }
+    }
+}
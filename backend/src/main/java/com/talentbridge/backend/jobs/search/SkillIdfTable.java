@@ -0,0 +1,136 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import com.talentbridge.backend.skills.service.SkillWeights;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Document frequency of every skill across all jobs' skills, maintained incrementally like the
+// other job indexes. Scoring never touches the counts: it reads an immutable SkillWeights snapshot
+// of smoothed IDF, ln((N + 1) / (df + 1)) + 1, from a volatile field. The snapshot is rebuilt and
+// swapped in by a scheduled task when the counts have changed, so a bulk import costs one rebuild
+// per publish interval rather than one per job.
+@Service
+public class SkillIdfTable extends AbstractJobIndex<SkillIdfTable.FrequencyData> implements MetricsSource {
+
+    private final SkillDictionary dictionary;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicLong publishes = new AtomicLong();
+
+    // Until the first publish every skill weighs 1.0, i.e. the same as binary matching
+    private volatile SkillWeights weights = new SkillWeights(new double[0], 1.0);
+    private volatile int publishedJobs;
+
+    public SkillIdfTable(SkillDictionary dictionary) {
+        super("skill-idf-table");
+        this.dictionary = dictionary;
+    }
+
+    // Current IDF snapshot; lock-free
+    public SkillWeights weights() {
+        return weights;
+    }
+
+    @Scheduled(fixedDelayString = "${talentbridge.skills.idf-publish-ms:1000}")
+    public void publish() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        // Ids interned after the size is read fall back to the unseen-skill weight until the next publish
+        int size = dictionary.size();
+        SkillWeights snapshot = read(data -> {
+            double unseen = Math.log(data.jobs + 1.0) + 1.0;
+            double[] idf = new double[size];
+            for (int id = 0; id < size; id++) {
+                int df = id < data.documentFrequency.length ? data.documentFrequency[id] : 0;
+                idf[id] = df == 0 ? unseen : Math.log((data.jobs + 1.0) / (df + 1.0)) + 1.0;
+            }
+            publishedJobs = data.jobs;
+            return new SkillWeights(idf, unseen);
+        });
+        weights = snapshot;
+        publishes.incrementAndGet();
+    }
+
+    @Override
+    protected FrequencyData newData() {
+        return new FrequencyData();
+    }
+
+    @Override
+    protected void apply(FrequencyData data, JobChangedEvent event) {
+        int[] previous = data.skillIdsByJob.remove(event.getJobId());
+        if (previous != null) {
+            data.jobs--;
+            for (int id : previous) {
+                data.documentFrequency[id]--;
+            }
+        }
+        if (!event.isDeleted()) {
+            int[] ids = distinctIds(event);
+            data.skillIdsByJob.put(event.getJobId(), ids);
+            data.jobs++;
+            for (int id : ids) {
+                if (id >= data.documentFrequency.length) {
+                    data.documentFrequency = Arrays.copyOf(data.documentFrequency, Math.max(id + 1, data.documentFrequency.length * 2));
+                }
+                data.documentFrequency[id]++;
+            }
+        }
+        dirty.set(true);
+    }
+
+    // Skills the dictionary has no room for are left out and score with the unseen weight
+    private int[] distinctIds(JobChangedEvent event) {
+        int[] ids = new int[event.getSkills().size()];
+        int count = 0;
+        for (String skill : event.getSkills()) {
+            int id = dictionary.intern(SkillDictionary.normalize(skill));
+            if (id == SkillDictionary.NO_ID) {
+                continue;
+            }
+            boolean seen = false;
+            for (int i = 0; i < count && !seen; i++) {
+                seen = ids[i] == id;
+            }
+            if (!seen) {
+                ids[count++] = id;
+            }
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "skillIdfTable";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        putLifecycleMetrics(metrics);
+        read(data -> {
+            metrics.put("jobs", data.jobs);
+            return null;
+        });
+        metrics.put("publishedJobs", publishedJobs);
+        metrics.put("publishedSkills", weights.size());
+        metrics.put("publishes", publishes.get());
+        return metrics;
+    }
+
+    static final class FrequencyData {
+        final Map<Long, int[]> skillIdsByJob = new HashMap<>();
+        int[] documentFrequency = new int[1024];
+        int jobs;
+    }
+}
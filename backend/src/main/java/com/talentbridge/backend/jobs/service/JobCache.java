@@ -0,0 +1,305 @@
+package com.talentbridge.backend.jobs.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talentbridge.backend.jobs.dto.JobDetailDTO;
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.JobChangeLog;
+import com.talentbridge.backend.jobs.model.JobViewCount;
+import com.talentbridge.backend.jobs.repo.JobChangeLogRepo;
+import com.talentbridge.backend.jobs.repo.JobRepo;
+import com.talentbridge.backend.jobs.repo.JobSkillRow;
+import com.talentbridge.backend.jobs.repo.JobViewCountRepo;
+import com.talentbridge.backend.jobs.search.JobSnapshotLoader;
+import com.talentbridge.backend.metrics.service.CacheMetrics;
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Read-through cache of job detail views keyed by jobId. Local saves/deletes evict after commit;
+// each one is also written to job_change_log in the same transaction, and every node polls that
+// table to evict (and re-index) jobs changed elsewhere. Detail-page views are counted in memory,
+// flushed to job_view_counts, and the most viewed jobs are loaded at startup.
+@Service
+public class JobCache implements MetricsSource {
+
+    private static final int CHANGE_POLL_BATCH = 1000;
+    private static final int MAX_CHANGE_GAPS = 10000;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private JobChangeLogRepo changeLogRepo;
+
+    @Autowired
+    private JobViewCountRepo viewCountRepo;
+
+    @Autowired
+    private JobSnapshotLoader snapshotLoader;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    // Transaction resource key for the ids changed in the current transaction
+    private final Object changeLogKey = new Object();
+    private final Cache<Long, JobDetailDTO> jobs;
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final TransactionTemplate tx;
+    private final int warmCount;
+    private final long changeLogRetentionHours;
+    private final AtomicLong remoteChanges = new AtomicLong();
+
+    // -1 until startup has read the current high-water mark
+    private volatile long lastSeenChangeId = -1;
+    // Skipped change ids -> when they were first missed (epoch millis), oldest first; poller thread only
+    private final Map<Long, Long> changeGaps = new LinkedHashMap<>();
+    private final long changeGapTimeoutMs;
+
+    public JobCache(PlatformTransactionManager transactionManager,
+                    @Value("${talentbridge.jobs.cache.size:5000}") long cacheSize,
+                    @Value("${talentbridge.jobs.cache.ttl-seconds:600}") long ttlSeconds,
+                    @Value("${talentbridge.jobs.cache.warm-count:200}") int warmCount,
+                    @Value("${talentbridge.jobs.cache.change-log-retention-hours:24}") long changeLogRetentionHours,
+                    @Value("${talentbridge.jobs.cache.change-gap-timeout-ms:300000}") long changeGapTimeoutMs) {
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.tx = new TransactionTemplate(transactionManager);
+        this.warmCount = warmCount;
+        this.changeLogRetentionHours = changeLogRetentionHours;
+        this.changeGapTimeoutMs = changeGapTimeoutMs;
+    }
+
+    // Cached views are shared between callers and must not be modified
+    public JobDetailDTO get(Long jobId) {
+        return jobs.get(jobId, this::load);
+    }
+
+    public void recordView(Long jobId) {
+        pendingViews.computeIfAbsent(jobId, id -> new LongAdder()).increment();
+    }
+
+    private JobDetailDTO load(Long jobId) {
+        return jobRepo.findDetailById(jobId).map(job -> {
+            List<String> skills = new ArrayList<>();
+            for (JobSkillRow row : jobRepo.findSkillsByJobIds(List.of(jobId))) {
+                skills.add(row.getSkill());
+            }
+            job.setSkills(List.copyOf(skills));
+            return job;
+        }).orElse(null);
+    }
+
+    // Called synchronously inside the saving transaction. Changed ids are collected per transaction
+    // and written to job_change_log as one JDBC batch just before commit, so the log commits (or
+    // rolls back) with the change and a bulk import doesn't pay one insert round trip per job.
+    // Changes replayed from other nodes arrive outside a transaction and are not logged again.
+    @EventListener
+    public void logChange(JobChangedEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> changed = (Set<Long>) TransactionSynchronizationManager.getResource(changeLogKey);
+        if (changed == null) {
+            Set<Long> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(changeLogKey, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    writeChangeLog(ids);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(changeLogKey);
+                }
+            });
+            changed = ids;
+        }
+        changed.add(event.getJobId());
+        if (event.isDeleted()) {
+            viewCountRepo.deleteById(event.getJobId());
+            pendingViews.remove(event.getJobId());
+        }
+    }
+
+    private void writeChangeLog(Set<Long> jobIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("INSERT INTO job_change_log (job_id, node_id, changed_at) VALUES (?, ?, ?)",
+                new ArrayList<>(jobIds), 500, (statement, jobId) -> {
+                    statement.setLong(1, jobId);
+                    statement.setString(2, nodeId);
+                    statement.setTimestamp(3, now);
+                });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(JobChangedEvent event) {
+        jobs.invalidate(event.getJobId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lastSeenChangeId = changeLogRepo.findMaxId();
+        CompletableFuture.runAsync(this::warm);
+    }
+
+    private void warm() {
+        try {
+            List<Long> ids = viewCountRepo.findMostViewedJobIds(Limit.of(warmCount));
+            if (ids.isEmpty()) {
+                return;
+            }
+            Map<Long, List<String>> skills = new HashMap<>();
+            for (JobSkillRow row : jobRepo.findSkillsByJobIds(ids)) {
+                skills.computeIfAbsent(row.getJobId(), id -> new ArrayList<>()).add(row.getSkill());
+            }
+            Map<Long, JobDetailDTO> loaded = new HashMap<>();
+            for (JobDetailDTO job : jobRepo.findDetailsByIds(ids)) {
+                job.setSkills(List.copyOf(skills.getOrDefault(job.getJobId(), List.of())));
+                loaded.put(job.getJobId(), job);
+            }
+            jobs.putAll(loaded);
+            System.out.println("Warmed job cache with " + loaded.size() + " most viewed jobs");
+        } catch (DataAccessException e) {
+            System.out.println("Job cache warm-up failed: " + e.getMessage());
+        }
+    }
+
+    // AUTO_INCREMENT ids are taken at insert but become visible at commit, so under concurrent writers
+    // a lower id can show up after a higher one has been read. Ids the cursor skips over are kept as
+    // gaps and looked up again on every poll until they appear or are older than the gap timeout
+    // (ids of rolled-back transactions never appear).
+    @Scheduled(fixedDelayString = "${talentbridge.jobs.cache.change-poll-ms:5000}")
+    public void pollChanges() {
+        if (lastSeenChangeId < 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (!changeGaps.isEmpty()) {
+            List<Long> gapIds = new ArrayList<>(changeGaps.keySet());
+            for (int from = 0; from < gapIds.size(); from += CHANGE_POLL_BATCH) {
+                List<JobChangeLog> found = changeLogRepo.findAllById(gapIds.subList(from, Math.min(gapIds.size(), from + CHANGE_POLL_BATCH)));
+                for (JobChangeLog change : found) {
+                    changeGaps.remove(change.getId());
+                }
+                replayRemote(found);
+            }
+            changeGaps.values().removeIf(firstMissed -> now - firstMissed > changeGapTimeoutMs);
+        }
+        List<JobChangeLog> changes;
+        do {
+            changes = changeLogRepo.findByIdGreaterThanOrderByIdAsc(lastSeenChangeId, Limit.of(CHANGE_POLL_BATCH));
+            for (JobChangeLog change : changes) {
+                for (long id = Math.max(lastSeenChangeId + 1, change.getId() - MAX_CHANGE_GAPS); id < change.getId(); id++) {
+                    changeGaps.put(id, now);
+                }
+                lastSeenChangeId = change.getId();
+            }
+            replayRemote(changes);
+        } while (changes.size() == CHANGE_POLL_BATCH);
+        // Oldest first; a burst of rolled-back inserts must not grow the retry set without bound
+        Iterator<Long> oldest = changeGaps.keySet().iterator();
+        while (changeGaps.size() > MAX_CHANGE_GAPS) {
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    private void replayRemote(List<JobChangeLog> changes) {
+        Set<Long> remote = new LinkedHashSet<>();
+        for (JobChangeLog change : changes) {
+            if (!nodeId.equals(change.getNodeId())) {
+                remote.add(change.getJobId());
+            }
+        }
+        if (!remote.isEmpty()) {
+            remoteChanges.addAndGet(remote.size());
+            jobs.invalidateAll(remote);
+            // Replay as local events so the in-memory search and facet indexes follow too
+            for (JobChangedEvent snapshot : snapshotLoader.load(remote)) {
+                eventPublisher.publishEvent(snapshot);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${talentbridge.jobs.cache.view-flush-ms:60000}")
+    public void flushViews() {
+        for (Long jobId : new ArrayList<>(pendingViews.keySet())) {
+            LongAdder adder = pendingViews.remove(jobId);
+            long delta = adder == null ? 0 : adder.sum();
+            if (delta == 0) {
+                continue;
+            }
+            try {
+                tx.executeWithoutResult(status -> {
+                    if (viewCountRepo.addViews(jobId, delta) == 0) {
+                        viewCountRepo.save(new JobViewCount(jobId, delta));
+                    }
+                });
+            } catch (DataAccessException e) {
+                // Another node inserted the row first; keep the views for the next flush
+                pendingViews.computeIfAbsent(jobId, id -> new LongAdder()).add(delta);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${talentbridge.jobs.cache.change-log-cleanup-ms:3600000}")
+    @Transactional
+    public void deleteOldChanges() {
+        changeLogRepo.deleteOlderThan(LocalDateTime.now().minusHours(changeLogRetentionHours));
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "jobCache";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = CacheMetrics.of(jobs);
+        metrics.put("remoteChanges", remoteChanges.get());
+        metrics.put("pendingChangeGaps", changeGaps.size());
+        metrics.put("pendingViewedJobs", pendingViews.size());
+        return metrics;
+    }
+}
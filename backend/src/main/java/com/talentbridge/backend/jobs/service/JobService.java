@@ -1,12 +1,34 @@
 package com.talentbridge.backend.jobs.service;
 
+import com.talentbridge.backend.export.service.ExportFormat;
+import com.talentbridge.backend.export.service.ExportQuery;
+import com.talentbridge.backend.export.service.ExportService;
+import com.talentbridge.backend.jobs.dto.AutocompleteSuggestionDTO;
+import com.talentbridge.backend.jobs.dto.CursorPageDTO;
+import com.talentbridge.backend.jobs.dto.FacetedSearchResultDTO;
+import com.talentbridge.backend.jobs.dto.JobCardDTO;
+import com.talentbridge.backend.jobs.dto.JobDetailDTO;
+import com.talentbridge.backend.jobs.dto.SearchResultDTO;
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
 import com.talentbridge.backend.jobs.model.Job;
 import com.talentbridge.backend.jobs.repo.JobRepo;
+import com.talentbridge.backend.jobs.repo.JobSkillRow;
+import com.talentbridge.backend.jobs.search.JobAutocompleteIndex;
+import com.talentbridge.backend.jobs.search.JobFacetIndex;
+import com.talentbridge.backend.jobs.search.JobSearchIndex;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -15,33 +37,182 @@ public class JobService {
     @Autowired
     private JobRepo jobRepo;
 
-    // Create or update job
+    @Autowired
+    private JobSearchIndex searchIndex;
+
+    @Autowired
+    private JobFacetIndex facetIndex;
+
+    @Autowired
+    private JobAutocompleteIndex autocompleteIndex;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Value("${talentbridge.jobs.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${talentbridge.jobs.max-page-size:100}")
+    private int maxPageSize;
+
+    // Create or update job; the snapshot is taken inside the transaction and delivered after commit.
+    // Skills are extracted up front: on an update @PreUpdate only runs at flush, after the snapshot.
+    @Transactional
     public Job saveJob(Job job) {
-        return jobRepo.save(job);
+        job.prepareSkills();
+        Job saved = jobRepo.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.saved(saved));
+        return saved;
+    }
+
+    // Get all jobs (unbounded, kept for existing clients; prefer getJobsPage)
+    @Transactional(readOnly = true)
+    public List<JobDetailDTO> getAllJobs() {
+        List<JobDetailDTO> jobs = jobRepo.findAllDetails();
+        Map<Long, List<String>> skills = groupSkills(jobRepo.findAllSkills());
+        jobs.forEach(job -> job.setSkills(skills.getOrDefault(job.getJobId(), new ArrayList<>())));
+        return jobs;
     }
 
-    // Get all jobs
-    public List<Job> getAllJobs() {
-        return jobRepo.findAll();
+    // Keyset page of job cards, newest first: one query for the cards, one for their skills
+    @Transactional(readOnly = true)
+    public CursorPageDTO<JobCardDTO> getJobsPage(Long cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        Limit limit = Limit.of(pageSize + 1);
+        List<JobCardDTO> cards = cursor == null ? jobRepo.findCardsFirstPage(limit) : jobRepo.findCardsBefore(cursor, limit);
+
+        boolean hasMore = cards.size() > pageSize;
+        List<JobCardDTO> page = hasMore ? cards.subList(0, pageSize) : cards;
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getJobId() : null;
+        return new CursorPageDTO<>(withCardSkills(page), nextCursor, hasMore);
     }
 
-    // Get job by ID
+    // Get job entity by ID, bypassing the cache (for updates)
     public Optional<Job> getJobById(Long id) {
         return jobRepo.findById(id);
     }
 
+    // Get job detail view by ID (cached; the returned view is shared and must not be modified)
+    public Optional<JobDetailDTO> getJobDetail(Long id) {
+        return Optional.ofNullable(jobCache.get(id));
+    }
+
+    public void recordView(Long id) {
+        jobCache.recordView(id);
+    }
+
     // Get jobs by recruiter ID
-    public List<Job> getJobsByRecruiterId(Long recruiterId) {
-        return jobRepo.findByRecruiter_RecruiterId(recruiterId);
+    @Transactional(readOnly = true)
+    public List<JobDetailDTO> getJobsByRecruiterId(Long recruiterId) {
+        List<JobDetailDTO> jobs = jobRepo.findDetailsByRecruiterId(recruiterId);
+        Map<Long, List<String>> skills = groupSkills(jobRepo.findSkillsByRecruiterId(recruiterId));
+        jobs.forEach(job -> job.setSkills(skills.getOrDefault(job.getJobId(), new ArrayList<>())));
+        return jobs;
+    }
+
+    // Streams every job of a recruiter straight from the database cursor
+    public StreamingResponseBody exportJobsByRecruiter(Long recruiterId, ExportFormat format) {
+        ExportQuery query = new ExportQuery(JobRepo.EXPORT_BY_RECRUITER, Map.of("recruiterId", recruiterId),
+                JobRepo.EXPORT_COLUMNS, JobRepo.EXPORT_COLUMNS.indexOf("skills"));
+        return exportService.export(query, format);
+    }
+
+    // Ranked full-text search over title, description, location and skills
+    @Transactional(readOnly = true)
+    public SearchResultDTO<JobCardDTO> searchJobs(String keyword, Integer page, Integer size) {
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        int offset = SearchResultDTO.offset(pageNumber, pageSize);
+
+        if (!searchIndex.isReady()) {
+            // Index still building after startup: fall back to the title-only LIKE query
+            List<JobCardDTO> matches = jobRepo.findCardsByTitleContaining(keyword);
+            int from = Math.min(offset, matches.size());
+            int to = from + Math.min(pageSize, matches.size() - from);
+            return new SearchResultDTO<>(withCardSkills(matches.subList(from, to)), matches.size(), pageNumber, pageSize);
+        }
+
+        JobSearchIndex.SearchHits hits = searchIndex.search(keyword, offset, pageSize);
+        return new SearchResultDTO<>(loadCardsInOrder(hits.jobIds()), hits.total(), pageNumber, pageSize);
     }
 
-    // Search jobs by title
-    public List<Job> searchJobs(String keyword) {
-        return jobRepo.findByJobTitleContainingIgnoreCase(keyword);
+    // Top completions for a search-box prefix; empty until the index has been built
+    public List<AutocompleteSuggestionDTO> autocomplete(String prefix, Integer limit) {
+        int max = autocompleteIndex.getTopK();
+        int count = limit == null || limit <= 0 ? max : Math.min(limit, max);
+        List<AutocompleteSuggestionDTO> suggestions = new ArrayList<>(count);
+        for (JobAutocompleteIndex.Suggestion suggestion : autocompleteIndex.complete(prefix, count)) {
+            suggestions.add(new AutocompleteSuggestionDTO(suggestion.text(), suggestion.kind().name(), suggestion.jobs()));
+        }
+        return suggestions;
+    }
+
+    // Jobs matching the selected facet values, with per-value counts for every facet
+    @Transactional(readOnly = true)
+    public FacetedSearchResultDTO<JobCardDTO> facetedSearch(Map<String, List<String>> filters, Integer page, Integer size) {
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        JobFacetIndex.FacetResult result = facetIndex.query(filters, SearchResultDTO.offset(pageNumber, pageSize), pageSize);
+        return new FacetedSearchResultDTO<>(loadCardsInOrder(result.jobIds()), result.total(), pageNumber, pageSize,
+                result.facets());
+    }
+
+    public boolean isFacetIndexReady() {
+        return facetIndex.isReady();
     }
 
     // Delete job
+    @Transactional
     public void deleteJob(Long id) {
         jobRepo.deleteById(id);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(id));
+    }
+
+    // Loads cards by id keeping the given order; ids deleted since they were indexed are skipped
+    public List<JobCardDTO> loadCardsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobCardDTO> byId = new HashMap<>();
+        for (JobCardDTO card : withCardSkills(jobRepo.findCardsByIds(ids))) {
+            byId.put(card.getJobId(), card);
+        }
+        List<JobCardDTO> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            JobCardDTO card = byId.get(id);
+            if (card != null) {
+                ordered.add(card);
+            }
+        }
+        return ordered;
+    }
+
+    private List<JobCardDTO> withCardSkills(List<JobCardDTO> cards) {
+        if (cards.isEmpty()) {
+            return cards;
+        }
+        List<Long> ids = new ArrayList<>(cards.size());
+        for (JobCardDTO card : cards) {
+            ids.add(card.getJobId());
+        }
+        Map<Long, List<String>> skills = groupSkills(jobRepo.findSkillsByJobIds(ids));
+        cards.forEach(card -> card.setSkills(skills.getOrDefault(card.getJobId(), new ArrayList<>())));
+        return cards;
+    }
+
+    private static Map<Long, List<String>> groupSkills(List<JobSkillRow> rows) {
+        Map<Long, List<String>> skills = new HashMap<>();
+        for (JobSkillRow row : rows) {
+            skills.computeIfAbsent(row.getJobId(), id -> new ArrayList<>()).add(row.getSkill());
+        }
+        return skills;
     }
 }
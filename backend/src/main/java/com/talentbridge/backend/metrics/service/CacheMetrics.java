@@ -0,0 +1,25 @@
+package com.talentbridge.backend.metrics.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Shared formatting of Caffeine statistics (cache must be built with recordStats())
+public final class CacheMetrics {
+
+    private CacheMetrics() {}
+
+    public static Map<String, Object> of(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("size", cache.estimatedSize());
+        metrics.put("hits", stats.hitCount());
+        metrics.put("misses", stats.missCount());
+        metrics.put("hitRate", stats.hitRate());
+        metrics.put("evictions", stats.evictionCount());
+        metrics.put("loadFailures", stats.loadFailureCount());
+        return metrics;
+    }
+}
@@ -0,0 +1,11 @@
+package com.talentbridge.backend.metrics.service;
+
+import java.util.Map;
+
+// Implemented by caches, executors and indexes that publish counters on /api/metrics
+public interface MetricsSource {
+
+    String getMetricsName();
+
+    Map<String, Object> getMetrics();
+}
@@ -1,6 +1,8 @@
 package com.talentbridge.backend.recruiter.controller;
 
+import com.talentbridge.backend.recruiter.dto.RecruiterDashboardDTO;
 import com.talentbridge.backend.recruiter.model.Recruiter;
+import com.talentbridge.backend.recruiter.service.RecruiterDashboardService;
 import com.talentbridge.backend.recruiter.service.RecruiterService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +19,9 @@ public class RecruiterController {
     @Autowired
     private RecruiterService recruiterService;
 
+    @Autowired
+    private RecruiterDashboardService recruiterDashboardService;
+
     // ✅ Create or Update Recruiter
     @PostMapping
     public ResponseEntity<Recruiter> createRecruiter(@RequestBody Recruiter recruiter) {
@@ -46,6 +51,14 @@ public class RecruiterController {
         return recruiter.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
 
+    // Dashboard: per-job applicant and interview round counts by status, plus upcoming interviews
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<RecruiterDashboardDTO> getDashboard(@PathVariable Long id) {
+        return recruiterDashboardService.getDashboard(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     // ✅ Delete Recruiter
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteRecruiter(@PathVariable Long id) {
@@ -0,0 +1,51 @@
+package com.talentbridge.backend.recruiter.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// Per-job row of the recruiter dashboard; status maps list every status, zero included
+public class JobDashboardDTO {
+    private Long jobId;
+    private String jobTitle;
+    private LocalDateTime created_at;
+    private long applicants;
+    private Map<String, Long> applicantsByStatus;
+    private Map<String, Long> roundsByStatus;
+    private long upcomingInterviews;
+    private LocalDateTime nextInterviewAt;
+
+    public JobDashboardDTO() {}
+
+    public JobDashboardDTO(Long jobId, String jobTitle, LocalDateTime created_at,
+                           Map<String, Long> applicantsByStatus, Map<String, Long> roundsByStatus) {
+        this.jobId = jobId;
+        this.jobTitle = jobTitle;
+        this.created_at = created_at;
+        this.applicantsByStatus = applicantsByStatus;
+        this.roundsByStatus = roundsByStatus;
+    }
+
+    public Long getJobId() { return jobId; }
+    public void setJobId(Long jobId) { this.jobId = jobId; }
+
+    public String getJobTitle() { return jobTitle; }
+    public void setJobTitle(String jobTitle) { this.jobTitle = jobTitle; }
+
+    public LocalDateTime getCreated_at() { return created_at; }
+    public void setCreated_at(LocalDateTime created_at) { this.created_at = created_at; }
+
+    public long getApplicants() { return applicants; }
+    public void setApplicants(long applicants) { this.applicants = applicants; }
+
+    public Map<String, Long> getApplicantsByStatus() { return applicantsByStatus; }
+    public void setApplicantsByStatus(Map<String, Long> applicantsByStatus) { this.applicantsByStatus = applicantsByStatus; }
+
+    public Map<String, Long> getRoundsByStatus() { return roundsByStatus; }
+    public void setRoundsByStatus(Map<String, Long> roundsByStatus) { this.roundsByStatus = roundsByStatus; }
+
+    public long getUpcomingInterviews() { return upcomingInterviews; }
+    public void setUpcomingInterviews(long upcomingInterviews) { this.upcomingInterviews = upcomingInterviews; }
+
+    public LocalDateTime getNextInterviewAt() { return nextInterviewAt; }
+    public void setNextInterviewAt(LocalDateTime nextInterviewAt) { this.nextInterviewAt = nextInterviewAt; }
+}
@@ -0,0 +1,45 @@
+package com.talentbridge.backend.recruiter.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// Everything the recruiter dashboard shows, in one response: totals, one row per job and the
+// next scheduled interviews
+public class RecruiterDashboardDTO {
+    private Long recruiterId;
+    private int totalJobs;
+    private long totalApplicants;
+    private Map<String, Long> applicantsByStatus;
+    private Map<String, Long> roundsByStatus;
+    private List<JobDashboardDTO> jobs;
+    private List<UpcomingInterviewDTO> upcomingInterviews;
+    private LocalDateTime generatedAt;
+
+    public RecruiterDashboardDTO() {}
+
+    public Long getRecruiterId() { return recruiterId; }
+    public void setRecruiterId(Long recruiterId) { this.recruiterId = recruiterId; }
+
+    public int getTotalJobs() { return totalJobs; }
+    public void setTotalJobs(int totalJobs) { this.totalJobs = totalJobs; }
+
+    public long getTotalApplicants() { return totalApplicants; }
+    public void setTotalApplicants(long totalApplicants) { this.totalApplicants = totalApplicants; }
+
+    public Map<String, Long> getApplicantsByStatus() { return applicantsByStatus; }
+    public void setApplicantsByStatus(Map<String, Long> applicantsByStatus) { this.applicantsByStatus = applicantsByStatus; }
+
+    public Map<String, Long> getRoundsByStatus() { return roundsByStatus; }
+    public void setRoundsByStatus(Map<String, Long> roundsByStatus) { this.roundsByStatus = roundsByStatus; }
+
+    public List<JobDashboardDTO> getJobs() { return jobs; }
+    public void setJobs(List<JobDashboardDTO> jobs) { this.jobs = jobs; }
+
+    public List<UpcomingInterviewDTO> getUpcomingInterviews() { return upcomingInterviews; }
+    public void setUpcomingInterviews(List<UpcomingInterviewDTO> upcomingInterviews) { this.upcomingInterviews = upcomingInterviews; }
+
+    // When the numbers were computed; the dashboard may be served from a short-lived cache
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+}
@@ -0,0 +1,74 @@
+package com.talentbridge.backend.recruiter.dto;
+
+import com.talentbridge.backend.interview.model.InterviewMode;
+import com.talentbridge.backend.interview.model.RoundStatus;
+import com.talentbridge.backend.interview.model.RoundType;
+
+import java.time.LocalDateTime;
+
+public class UpcomingInterviewDTO {
+    private Long roundId;
+    private Long jobId;
+    private String jobTitle;
+    private Long candidateId;
+    private String candidateName;
+    private String roundName;
+    private RoundType roundType;
+    private LocalDateTime scheduledAt;
+    private InterviewMode mode;
+    private String locationOrLink;
+    private RoundStatus status;
+
+    public UpcomingInterviewDTO() {}
+
+    // Used by the JPQL constructor expression in RecruiterDashboardRepo
+    public UpcomingInterviewDTO(Long roundId, Long jobId, String jobTitle, Long candidateId, String firstName,
+                                String lastName, String roundName, RoundType roundType, LocalDateTime scheduledAt,
+                                InterviewMode mode, String locationOrLink, RoundStatus status) {
+        this.roundId = roundId;
+        this.jobId = jobId;
+        this.jobTitle = jobTitle;
+        this.candidateId = candidateId;
+        this.candidateName = firstName == null && lastName == null ? null
+                : ((firstName == null ? "" : firstName) + " " + (lastName == null ? "" : lastName)).trim();
+        this.roundName = roundName;
+        this.roundType = roundType;
+        this.scheduledAt = scheduledAt;
+        this.mode = mode;
+        this.locationOrLink = locationOrLink;
+        this.status = status;
+    }
+
+    public Long getRoundId() { return roundId; }
+    public void setRoundId(Long roundId) { this.roundId = roundId; }
+
+    public Long getJobId() { return jobId; }
+    public void setJobId(Long jobId) { this.jobId = jobId; }
+
+    public String getJobTitle() { return jobTitle; }
+    public void setJobTitle(String jobTitle) { this.jobTitle = jobTitle; }
+
+    public Long getCandidateId() { return candidateId; }
+    public void setCandidateId(Long candidateId) { this.candidateId = candidateId; }
+
+    public String getCandidateName() { return candidateName; }
+    public void setCandidateName(String candidateName) { this.candidateName = candidateName; }
+
+    public String getRoundName() { return roundName; }
+    public void setRoundName(String roundName) { this.roundName = roundName; }
+
+    public RoundType getRoundType() { return roundType; }
+    public void setRoundType(RoundType roundType) { this.roundType = roundType; }
+
+    public LocalDateTime getScheduledAt() { return scheduledAt; }
+    public void setScheduledAt(LocalDateTime scheduledAt) { this.scheduledAt = scheduledAt; }
+
+    public InterviewMode getMode() { return mode; }
+    public void setMode(InterviewMode mode) { this.mode = mode; }
+
+    public String getLocationOrLink() { return locationOrLink; }
+    public void setLocationOrLink(String locationOrLink) { this.locationOrLink = locationOrLink; }
+
+    public RoundStatus getStatus() { return status; }
+    public void setStatus(RoundStatus status) { this.status = status; }
+}
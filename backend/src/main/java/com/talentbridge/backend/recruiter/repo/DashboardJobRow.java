@@ -0,0 +1,10 @@
+package com.talentbridge.backend.recruiter.repo;
+
+import java.time.LocalDateTime;
+
+// Interface projection for one job of a recruiter's dashboard
+public interface DashboardJobRow {
+    Long getJobId();
+    String getJobTitle();
+    LocalDateTime getCreatedAt();
+}
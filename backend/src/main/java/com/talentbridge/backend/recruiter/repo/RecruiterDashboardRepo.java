@@ -0,0 +1,49 @@
+package com.talentbridge.backend.recruiter.repo;
+
+import com.talentbridge.backend.interview.model.RoundStatus;
+import com.talentbridge.backend.recruiter.dto.UpcomingInterviewDTO;
+import com.talentbridge.backend.recruiter.model.Recruiter;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Read-only aggregate queries behind the recruiter dashboard. Each one covers all of a
+// recruiter's jobs at once, so a dashboard costs the same handful of queries however many jobs
+// and applicants the recruiter has.
+@org.springframework.stereotype.Repository
+public interface RecruiterDashboardRepo extends Repository<Recruiter, Long> {
+
+    @Query("SELECT j.jobId AS jobId, j.jobTitle AS jobTitle, j.created_at AS createdAt FROM Job j "
+            + "WHERE j.recruiter.recruiterId = :recruiterId ORDER BY j.jobId DESC")
+    List<DashboardJobRow> findJobs(@Param("recruiterId") Long recruiterId);
+
+    @Query("SELECT a.jobId AS jobId, a.status AS status, COUNT(a) AS total FROM UserJobModel a, Job j "
+            + "WHERE j.jobId = a.jobId AND j.recruiter.recruiterId = :recruiterId GROUP BY a.jobId, a.status")
+    List<StatusCountRow> countApplicationsByJobAndStatus(@Param("recruiterId") Long recruiterId);
+
+    @Query("SELECT r.jobId AS jobId, r.status AS status, COUNT(r) AS total FROM InterviewRound r "
+            + "WHERE r.recruiterId = :recruiterId GROUP BY r.jobId, r.status")
+    List<StatusCountRow> countRoundsByJobAndStatus(@Param("recruiterId") Long recruiterId);
+
+    @Query("SELECT r.jobId AS jobId, COUNT(r) AS total, MIN(r.scheduledAt) AS nextAt FROM InterviewRound r "
+            + "WHERE r.recruiterId = :recruiterId AND r.scheduledAt >= :from AND r.status IN :statuses GROUP BY r.jobId")
+    List<UpcomingCountRow> countUpcomingByJob(@Param("recruiterId") Long recruiterId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("statuses") Collection<RoundStatus> statuses);
+
+    @Query("SELECT new com.talentbridge.backend.recruiter.dto.UpcomingInterviewDTO(r.id, r.jobId, j.jobTitle, "
+            + "r.candidateId, p.firstName, p.lastName, r.roundName, r.roundType, r.scheduledAt, r.mode, "
+            + "r.locationOrLink, r.status) FROM InterviewRound r "
+            + "LEFT JOIN Job j ON j.jobId = r.jobId LEFT JOIN UserProfileModel p ON p.user.id = r.candidateId "
+            + "WHERE r.recruiterId = :recruiterId AND r.scheduledAt >= :from AND r.status IN :statuses "
+            + "ORDER BY r.scheduledAt")
+    List<UpcomingInterviewDTO> findUpcomingInterviews(@Param("recruiterId") Long recruiterId,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("statuses") Collection<RoundStatus> statuses,
+                                                      Limit limit);
+}
@@ -0,0 +1,8 @@
+package com.talentbridge.backend.recruiter.repo;
+
+// Interface projection for a GROUP BY (jobId, status) count; status is an ApplicationStatus or RoundStatus
+public interface StatusCountRow {
+    Long getJobId();
+    Object getStatus();
+    long getTotal();
+}
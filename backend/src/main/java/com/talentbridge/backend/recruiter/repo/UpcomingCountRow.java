@@ -0,0 +1,10 @@
+package com.talentbridge.backend.recruiter.repo;
+
+import java.time.LocalDateTime;
+
+// Interface projection for the number of upcoming interviews of a job and the earliest of them
+public interface UpcomingCountRow {
+    Long getJobId();
+    long getTotal();
+    LocalDateTime getNextAt();
+}
@@ -0,0 +1,158 @@
+package com.talentbridge.backend.recruiter.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talentbridge.backend.interview.model.RoundStatus;
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.metrics.service.CacheMetrics;
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import com.talentbridge.backend.recruiter.dto.JobDashboardDTO;
+import com.talentbridge.backend.recruiter.dto.RecruiterDashboardDTO;
+import com.talentbridge.backend.recruiter.repo.DashboardJobRow;
+import com.talentbridge.backend.recruiter.repo.RecruiterDashboardRepo;
+import com.talentbridge.backend.recruiter.repo.RecruiterRepo;
+import com.talentbridge.backend.recruiter.repo.StatusCountRow;
+import com.talentbridge.backend.recruiter.repo.UpcomingCountRow;
+import com.talentbridge.backend.userJobs.model.ApplicationStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Builds the recruiter dashboard from five aggregate queries (jobs, applicants per job and
+// status, rounds per job and status, upcoming interviews per job, next interviews) in one
+// read-only transaction. Results are cached per recruiter for a short TTL; job writes evict
+// straight away, application and interview changes show up once the entry expires.
+@Service
+public class RecruiterDashboardService implements MetricsSource {
+
+    // Rounds that still have to happen
+    private static final List<RoundStatus> UPCOMING_STATUSES = List.of(RoundStatus.WAITING, RoundStatus.ONGOING);
+
+    @Autowired
+    private RecruiterDashboardRepo dashboardRepo;
+
+    @Autowired
+    private RecruiterRepo recruiterRepo;
+
+    private final Cache<Long, RecruiterDashboardDTO> dashboards;
+    private final TransactionTemplate readOnlyTx;
+    private final int upcomingLimit;
+
+    public RecruiterDashboardService(PlatformTransactionManager transactionManager,
+                                     @Value("${talentbridge.dashboard.cache-size:1000}") long cacheSize,
+                                     @Value("${talentbridge.dashboard.cache-ttl-seconds:30}") long ttlSeconds,
+                                     @Value("${talentbridge.dashboard.upcoming-limit:20}") int upcomingLimit) {
+        this.dashboards = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.upcomingLimit = upcomingLimit;
+    }
+
+    // Empty for an unknown recruiter; concurrent requests for the same recruiter share one computation
+    public Optional<RecruiterDashboardDTO> getDashboard(Long recruiterId) {
+        return Optional.ofNullable(dashboards.get(recruiterId, this::compute));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getRecruiterId() != null) {
+            dashboards.invalidate(event.getRecruiterId());
+        } else {
+            // Deletes don't say whose job it was
+            dashboards.invalidateAll();
+        }
+    }
+
+    private RecruiterDashboardDTO compute(Long recruiterId) {
+        return readOnlyTx.execute(status -> {
+            if (!recruiterRepo.existsById(recruiterId)) {
+                return null;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<DashboardJobRow> jobRows = dashboardRepo.findJobs(recruiterId);
+
+            Map<Long, JobDashboardDTO> jobs = new LinkedHashMap<>();
+            for (DashboardJobRow row : jobRows) {
+                jobs.put(row.getJobId(), new JobDashboardDTO(row.getJobId(), row.getJobTitle(), row.getCreatedAt(),
+                        zeroCounts(ApplicationStatus.values()), zeroCounts(RoundStatus.values())));
+            }
+
+            Map<String, Long> applicantsByStatus = zeroCounts(ApplicationStatus.values());
+            long totalApplicants = 0;
+            for (StatusCountRow row : dashboardRepo.countApplicationsByJobAndStatus(recruiterId)) {
+                String key = String.valueOf(row.getStatus());
+                applicantsByStatus.merge(key, row.getTotal(), Long::sum);
+                totalApplicants += row.getTotal();
+                JobDashboardDTO job = jobs.get(row.getJobId());
+                if (job != null) {
+                    job.getApplicantsByStatus().merge(key, row.getTotal(), Long::sum);
+                    job.setApplicants(job.getApplicants() + row.getTotal());
+                }
+            }
+
+            Map<String, Long> roundsByStatus = zeroCounts(RoundStatus.values());
+            for (StatusCountRow row : dashboardRepo.countRoundsByJobAndStatus(recruiterId)) {
+                String key = String.valueOf(row.getStatus());
+                roundsByStatus.merge(key, row.getTotal(), Long::sum);
+                JobDashboardDTO job = jobs.get(row.getJobId());
+                if (job != null) {
+                    job.getRoundsByStatus().merge(key, row.getTotal(), Long::sum);
+                }
+            }
+
+            for (UpcomingCountRow row : dashboardRepo.countUpcomingByJob(recruiterId, now, UPCOMING_STATUSES)) {
+                JobDashboardDTO job = jobs.get(row.getJobId());
+                if (job != null) {
+                    job.setUpcomingInterviews(row.getTotal());
+                    job.setNextInterviewAt(row.getNextAt());
+                }
+            }
+
+            RecruiterDashboardDTO dashboard = new RecruiterDashboardDTO();
+            dashboard.setRecruiterId(recruiterId);
+            dashboard.setTotalJobs(jobs.size());
+            dashboard.setTotalApplicants(totalApplicants);
+            dashboard.setApplicantsByStatus(applicantsByStatus);
+            dashboard.setRoundsByStatus(roundsByStatus);
+            dashboard.setJobs(new ArrayList<>(jobs.values()));
+            dashboard.setUpcomingInterviews(dashboardRepo.findUpcomingInterviews(recruiterId, now, UPCOMING_STATUSES,
+                    Limit.of(upcomingLimit)));
+            dashboard.setGeneratedAt(now);
+            return dashboard;
+        });
+    }
+
+    private static Map<String, Long> zeroCounts(Enum<?>[] statuses) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Enum<?> status : statuses) {
+            counts.put(status.name(), 0L);
+        }
+        return counts;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "recruiterDashboardCache";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        return CacheMetrics.of(dashboards);
+    }
+}
@@ -0,0 +1,23 @@
+package com.talentbridge.backend.skills.service;
+
+import java.util.Locale;
+
+// How two skill sets are scored: BINARY weighs every skill 1.0, TFIDF weighs each skill by its
+// inverse document frequency across all jobs' skills, so rare skills count for more
+public enum MatchMode {
+
+    BINARY,
+    TFIDF;
+
+    // ?mode= value; BINARY when absent, IllegalArgumentException (400) when unknown
+    public static MatchMode from(String mode) {
+        if (mode == null || mode.isBlank()) {
+            return BINARY;
+        }
+        try {
+            return valueOf(mode.trim().replace("-", "").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported match mode: " + mode + ". Use binary or tfidf");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.talentbridge.backend.skills.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Canonical skill names and their aliases, loaded once from a dictionary file ("Canonical|alias|alias"
+// per line, '#' for comments). The bundled skills/skill-dictionary.txt is used unless the
+// talentbridge.skills.dictionary system property points at another file. JPA entities are not
+// Spring-managed, so the shared instance is reached statically through getDefault().
+public final class SkillCatalog {
+
+    public static final String DICTIONARY_PROPERTY = "talentbridge.skills.dictionary";
+    private static final String BUNDLED_DICTIONARY = "skills/skill-dictionary.txt";
+
+    private final List<String> canonicalNames;
+    // lower-cased surface form -> index into canonicalNames
+    private final Map<String, Integer> aliases;
+    // index into canonicalNames -> every lower-cased surface form of that skill
+    private final List<List<String>> formsByIndex;
+    private final SkillExtractor extractor;
+
+    private SkillCatalog(List<String> canonicalNames, Map<String, Integer> aliases) {
+        this.canonicalNames = List.copyOf(canonicalNames);
+        this.aliases = Map.copyOf(aliases);
+        List<List<String>> forms = new ArrayList<>(canonicalNames.size());
+        for (int i = 0; i < canonicalNames.size(); i++) {
+            forms.add(new ArrayList<>());
+        }
+        aliases.forEach((form, index) -> forms.get(index).add(form));
+        this.formsByIndex = forms.stream().map(List::copyOf).toList();
+        this.extractor = new SkillExtractor(canonicalNames, aliases);
+    }
+
+    private static final class Holder {
+        static final SkillCatalog DEFAULT = loadDefault();
+    }
+
+    public static SkillCatalog getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    public List<String> getCanonicalNames() {
+        return canonicalNames;
+    }
+
+    public SkillExtractor getExtractor() {
+        return extractor;
+    }
+
+    // Canonical name of a skill however it was written ("reactjs", " React.js ") by a case-folded
+    // alias lookup; skills not in the dictionary come back trimmed but otherwise as given
+    public String canonicalize(String skill) {
+        String trimmed = skill.strip();
+        Integer index = aliases.get(trimmed.toLowerCase(Locale.ROOT));
+        return index == null ? trimmed : canonicalNames.get(index);
+    }
+
+    // Every lower-cased way the skill may have been stored, canonical name included, for matching
+    // rows written before skills were canonicalized; just the skill itself when it has no aliases
+    public List<String> surfaceForms(String skill) {
+        String lower = skill.strip().toLowerCase(Locale.ROOT);
+        Integer index = aliases.get(lower);
+        return index == null ? List.of(lower) : formsByIndex.get(index);
+    }
+
+    // Canonical names in first-seen order without duplicates; null and blank entries are dropped
+    public List<String> canonicalizeAll(Collection<String> skills) {
+        LinkedHashSet<String> canonical = new LinkedHashSet<>();
+        for (String skill : skills) {
+            if (skill != null && !skill.isBlank()) {
+                canonical.add(canonicalize(skill));
+            }
+        }
+        return new ArrayList<>(canonical);
+    }
+
+    public static SkillCatalog parse(BufferedReader reader) throws IOException {
+        List<String> canonicalNames = new ArrayList<>();
+        Map<String, Integer> aliases = new LinkedHashMap<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] forms = line.split("\\|");
+            String canonical = forms[0].strip();
+            Integer index = aliases.get(canonical.toLowerCase(Locale.ROOT));
+            if (index == null) {
+                index = canonicalNames.size();
+                canonicalNames.add(canonical);
+            }
+            for (String form : forms) {
+                String trimmed = form.strip();
+                if (!trimmed.isEmpty()) {
+                    aliases.putIfAbsent(trimmed.toLowerCase(Locale.ROOT), index);
+                }
+            }
+        }
+        return new SkillCatalog(canonicalNames, aliases);
+    }
+
+    private static SkillCatalog loadDefault() {
+        String external = System.getProperty(DICTIONARY_PROPERTY);
+        try {
+            if (external != null && !external.isBlank()) {
+                try (BufferedReader reader = Files.newBufferedReader(Path.of(external), StandardCharsets.UTF_8)) {
+                    SkillCatalog catalog = parse(reader);
+                    System.out.println("Loaded " + catalog.canonicalNames.size() + " skills from " + external);
+                    return catalog;
+                }
+            }
+            InputStream in = SkillCatalog.class.getClassLoader().getResourceAsStream(BUNDLED_DICTIONARY);
+            if (in == null) {
+                throw new IllegalStateException("Skill dictionary not found on classpath: " + BUNDLED_DICTIONARY);
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                return parse(reader);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load skill dictionary", e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.talentbridge.backend.skills.service;
+
+import com.talentbridge.backend.metrics.service.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Interns normalized skill names to dense int ids, so skill sets can be stored and compared as
+// bitsets (see SkillVector). Ids are never reused. The dictionary stops growing at max-size, since
+// request input feeds it; skills seen after that get no id and SkillVector keeps them as strings.
+@Service
+public class SkillDictionary implements MetricsSource {
+
+    public static final int NO_ID = -1;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final AtomicLong overflowed = new AtomicLong();
+
+    // Written under the lock; a reader only asks for ids it got back from ids, which were
+    // published after their name was stored
+    private volatile String[] names = new String[1024];
+    private int size;
+
+    public SkillDictionary(@Value("${talentbridge.skills.dictionary-max-size:65536}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    // The form skills are interned in: the catalog's canonical name (aliases resolved), lower-cased.
+    // Stored skills are canonical already; resolving here too covers rows written before that and
+    // skills sent in requests.
+    public static String normalize(String skill) {
+        return SkillCatalog.getDefault().canonicalize(skill).toLowerCase(Locale.ROOT);
+    }
+
+    // Id of a normalized skill, assigned on first sight; NO_ID once the dictionary is full
+    public int intern(String skill) {
+        Integer id = ids.get(skill);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(skill);
+            if (id != null) {
+                return id;
+            }
+            if (size >= maxSize) {
+                overflowed.incrementAndGet();
+                return NO_ID;
+            }
+            int next = size++;
+            String[] current = names;
+            if (next == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[next] = skill;
+            names = current;
+            ids.put(skill, next);
+            return next;
+        }
+    }
+
+    // Id of an already interned skill, without adding it
+    public int idOf(String skill) {
+        Integer id = ids.get(skill);
+        return id == null ? NO_ID : id;
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "skillDictionary";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("size", size());
+        metrics.put("maxSize", maxSize);
+        metrics.put("overflowed", overflowed.get());
+        return metrics;
+    }
+}
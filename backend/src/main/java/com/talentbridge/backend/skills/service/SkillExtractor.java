@@ -0,0 +1,203 @@
+package com.talentbridge.backend.skills.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Immutable Aho-Corasick automaton over skill names and aliases. Finds every dictionary skill in a
+// text in one case-insensitive pass; a match only counts when it is not glued to a neighbouring
+// word, so "Java" does not match inside "JavaScript" nor "JS" inside "react.js". Safe to share
+// between threads.
+public final class SkillExtractor {
+
+    private final List<String> canonicalNames;
+
+    // Trie edges in CSR form: node n's children are childChars/childTargets[childStart[n]..childStart[n+1]), sorted by char
+    private final int[] childStart;
+    private final char[] childChars;
+    private final int[] childTargets;
+    private final int[] fail;
+    // Nearest node on the fail chain (including itself) that ends a pattern, or -1
+    private final int[] outputLink;
+    private final int[] outputStart;
+    private final int[] outputPatterns;
+
+    private final int[] patternLength;
+    private final int[] patternCanonical;
+    private final boolean[] patternWordStart;
+    private final boolean[] patternWordEnd;
+
+    // aliases maps every surface form (including the canonical name itself) to an index into canonicalNames
+    SkillExtractor(List<String> canonicalNames, Map<String, Integer> aliases) {
+        this.canonicalNames = List.copyOf(canonicalNames);
+
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> outputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        outputs.add(new ArrayList<>());
+
+        int patternCount = aliases.size();
+        patternLength = new int[patternCount];
+        patternCanonical = new int[patternCount];
+        patternWordStart = new boolean[patternCount];
+        patternWordEnd = new boolean[patternCount];
+
+        int pattern = 0;
+        for (Map.Entry<String, Integer> alias : aliases.entrySet()) {
+            String form = alias.getKey();
+            int node = 0;
+            for (int i = 0; i < form.length(); i++) {
+                char c = Character.toLowerCase(form.charAt(i));
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(c, next);
+                    children.add(new TreeMap<>());
+                    outputs.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            outputs.get(node).add(pattern);
+            patternLength[pattern] = form.length();
+            patternCanonical[pattern] = alias.getValue();
+            patternWordStart[pattern] = isWordChar(form.charAt(0));
+            patternWordEnd[pattern] = isWordChar(form.charAt(form.length() - 1));
+            pattern++;
+        }
+
+        int nodeCount = children.size();
+        childStart = new int[nodeCount + 1];
+        int edgeCount = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            childStart[n] = edgeCount;
+            edgeCount += children.get(n).size();
+        }
+        childStart[nodeCount] = edgeCount;
+        childChars = new char[edgeCount];
+        childTargets = new int[edgeCount];
+        for (int n = 0; n < nodeCount; n++) {
+            int e = childStart[n];
+            for (Map.Entry<Character, Integer> edge : children.get(n).entrySet()) {
+                childChars[e] = edge.getKey();
+                childTargets[e] = edge.getValue();
+                e++;
+            }
+        }
+
+        outputStart = new int[nodeCount + 1];
+        int outputCount = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            outputStart[n] = outputCount;
+            outputCount += outputs.get(n).size();
+        }
+        outputStart[nodeCount] = outputCount;
+        outputPatterns = new int[outputCount];
+        for (int n = 0; n < nodeCount; n++) {
+            int o = outputStart[n];
+            for (int p : outputs.get(n)) {
+                outputPatterns[o++] = p;
+            }
+        }
+
+        // Breadth-first so a node's fail target is always resolved before the node itself
+        fail = new int[nodeCount];
+        outputLink = new int[nodeCount];
+        outputLink[0] = -1;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = childStart[0]; e < childStart[1]; e++) {
+            int child = childTargets[e];
+            fail[child] = 0;
+            outputLink[child] = hasOutput(child) ? child : -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = childStart[node]; e < childStart[node + 1]; e++) {
+                int child = childTargets[e];
+                char c = childChars[e];
+                int f = fail[node];
+                int target;
+                while ((target = step(f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = target < 0 ? 0 : target;
+                outputLink[child] = hasOutput(child) ? child : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    // Canonical names of the skills found, in dictionary order, without duplicates
+    public List<String> extract(String text) {
+        List<String> found = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return found;
+        }
+        BitSet matched = new BitSet(canonicalNames.size());
+        int state = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = step(state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = next < 0 ? 0 : next;
+
+            for (int node = outputLink[state]; node >= 0; node = outputLink[fail[node]]) {
+                for (int o = outputStart[node]; o < outputStart[node + 1]; o++) {
+                    int p = outputPatterns[o];
+                    int start = i - patternLength[p] + 1;
+                    if (patternWordStart[p] && gluedBefore(text, start)) {
+                        continue;
+                    }
+                    if (patternWordEnd[p] && gluedAfter(text, i)) {
+                        continue;
+                    }
+                    matched.set(patternCanonical[p]);
+                }
+            }
+        }
+        for (int s = matched.nextSetBit(0); s >= 0; s = matched.nextSetBit(s + 1)) {
+            found.add(canonicalNames.get(s));
+        }
+        return found;
+    }
+
+    private int step(int node, char c) {
+        int from = childStart[node];
+        int to = childStart[node + 1];
+        int index = Arrays.binarySearch(childChars, from, to, c);
+        return index >= 0 ? childTargets[index] : -1;
+    }
+
+    private boolean hasOutput(int node) {
+        return outputStart[node + 1] > outputStart[node];
+    }
+
+    // A letter/digit, or a dot inside a dotted name ("react.js"), joins the match to its neighbour
+    private static boolean gluedBefore(String text, int start) {
+        if (start == 0) {
+            return false;
+        }
+        char prev = text.charAt(start - 1);
+        return isWordChar(prev) || (prev == '.' && start > 1 && isWordChar(text.charAt(start - 2)));
+    }
+
+    private static boolean gluedAfter(String text, int end) {
+        int length = text.length();
+        if (end + 1 >= length) {
+            return false;
+        }
+        char next = text.charAt(end + 1);
+        return isWordChar(next) || (next == '.' && end + 2 < length && isWordChar(text.charAt(end + 2)));
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+}
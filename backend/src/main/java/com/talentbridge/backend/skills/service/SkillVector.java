@@ -0,0 +1,236 @@
+package com.talentbridge.backend.skills.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// Immutable set of normalized skills as a bitset over SkillDictionary ids. Set operations are
+// word-wise AND plus popcount; skills without an id when the vector was built (the dictionary was
+// full, or a looked-up skill wasn't interned yet) are kept in a small array. Another thread may
+// intern such a skill before the next vector is built, so overflow names are matched against the
+// other vector's names and, through their current id, its bits.
+public final class SkillVector {
+
+    private static final long[] NO_WORDS = new long[0];
+    private static final String[] NO_NAMES = new String[0];
+
+    private final SkillDictionary dictionary;
+    private final long[] words;
+    private final String[] overflow;
+    private final int cardinality;
+
+    private SkillVector(SkillDictionary dictionary, long[] words, String[] overflow) {
+        this.dictionary = dictionary;
+        this.words = words;
+        this.overflow = overflow;
+        int bits = overflow.length;
+        for (long word : words) {
+            bits += Long.bitCount(word);
+        }
+        this.cardinality = bits;
+    }
+
+    // Skills must already be normalized; duplicates collapse. New skills are interned, so use this
+    // for job skills only.
+    public static SkillVector of(SkillDictionary dictionary, Collection<String> skills) {
+        return build(dictionary, skills, true);
+    }
+
+    // Same vector for skills that come from requests or profiles: only already interned skills get a
+    // bit, the rest are kept by name. Clients can't fill the dictionary this way.
+    public static SkillVector lookup(SkillDictionary dictionary, Collection<String> skills) {
+        return build(dictionary, skills, false);
+    }
+
+    private static SkillVector build(SkillDictionary dictionary, Collection<String> skills, boolean intern) {
+        long[] words = NO_WORDS;
+        List<String> overflow = null;
+        for (String skill : skills) {
+            int id = intern ? dictionary.intern(skill) : dictionary.idOf(skill);
+            if (id == SkillDictionary.NO_ID || overflow != null && overflow.contains(skill)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                if (!overflow.contains(skill)) {
+                    overflow.add(skill);
+                }
+                continue;
+            }
+            int word = id >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            words[word] |= 1L << id;
+        }
+        return new SkillVector(dictionary, words, overflow == null ? NO_NAMES : overflow.toArray(NO_NAMES));
+    }
+
+    public int size() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(String skill) {
+        return contains(dictionary.idOf(skill), skill);
+    }
+
+    private boolean contains(int id, String skill) {
+        return hasBit(id) || hasName(skill);
+    }
+
+    private boolean hasBit(int id) {
+        if (id == SkillDictionary.NO_ID) {
+            return false;
+        }
+        int word = id >>> 6;
+        return word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    private boolean hasName(String skill) {
+        for (String name : overflow) {
+            if (name.equals(skill)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int intersectionSize(SkillVector other) {
+        int shared = 0;
+        int common = Math.min(words.length, other.words.length);
+        for (int i = 0; i < common; i++) {
+            shared += Long.bitCount(words[i] & other.words[i]);
+        }
+        return shared + sharedOverflow(other);
+    }
+
+    // Shared skills that are a name on at least one side. A skill is either a bit or a name within
+    // one vector, so the two loops never count the same skill twice.
+    private int sharedOverflow(SkillVector other) {
+        int shared = 0;
+        for (String name : overflow) {
+            if (other.contains(dictionary.idOf(name), name)) {
+                shared++;
+            }
+        }
+        for (String name : other.overflow) {
+            if (hasBit(dictionary.idOf(name))) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+
+    // sharedOverflow weighted for the cosine: fallback^2 for a name on both sides, the skill's
+    // weight times fallback when the other side has it as a bit
+    private double sharedOverflowDot(SkillVector other, SkillWeights weights) {
+        double fallback = weights.fallback();
+        double dot = 0;
+        for (String name : overflow) {
+            int id = dictionary.idOf(name);
+            if (other.hasBit(id)) {
+                dot += weights.weight(id) * fallback;
+            } else if (other.hasName(name)) {
+                dot += fallback * fallback;
+            }
+        }
+        for (String name : other.overflow) {
+            int id = dictionary.idOf(name);
+            if (hasBit(id)) {
+                dot += weights.weight(id) * fallback;
+            }
+        }
+        return dot;
+    }
+
+    // Cosine similarity of the two sets as 0/1 vectors: |A and B| / sqrt(|A| * |B|), 0 if either is empty
+    public double cosine(SkillVector other) {
+        if (cardinality == 0 || other.cardinality == 0) {
+            return 0.0;
+        }
+        return intersectionSize(other) / Math.sqrt((double) cardinality * other.cardinality);
+    }
+
+    // Same measure against distinct normalized skills that are only looked up, never interned, so
+    // one-off skills (a candidate's, say) don't take dictionary ids
+    public double cosine(Set<String> skills) {
+        if (cardinality == 0 || skills.isEmpty()) {
+            return 0.0;
+        }
+        int shared = 0;
+        for (String skill : skills) {
+            if (contains(skill)) {
+                shared++;
+            }
+        }
+        return shared / Math.sqrt((double) cardinality * skills.size());
+    }
+
+    // Weighted cosine: sum of w^2 over shared skills / sqrt(sum of w^2 over A * sum of w^2 over B).
+    // Walks the set bits directly, so scoring allocates nothing.
+    public double cosine(SkillVector other, SkillWeights weights) {
+        if (cardinality == 0 || other.cardinality == 0) {
+            return 0.0;
+        }
+        double dot = 0;
+        double norm = 0;
+        double otherNorm = 0;
+        int length = Math.max(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            long mine = i < words.length ? words[i] : 0L;
+            long theirs = i < other.words.length ? other.words[i] : 0L;
+            for (long bits = mine | theirs; bits != 0; bits &= bits - 1) {
+                long bit = bits & -bits;
+                double w = weights.weight((i << 6) | Long.numberOfTrailingZeros(bit));
+                double w2 = w * w;
+                if ((mine & bit) != 0) {
+                    norm += w2;
+                    if ((theirs & bit) != 0) {
+                        dot += w2;
+                    }
+                }
+                if ((theirs & bit) != 0) {
+                    otherNorm += w2;
+                }
+            }
+        }
+        double fallback2 = weights.fallback() * weights.fallback();
+        norm += overflow.length * fallback2;
+        otherNorm += other.overflow.length * fallback2;
+        dot += sharedOverflowDot(other, weights);
+        return dot / Math.sqrt(norm * otherNorm);
+    }
+
+    // Weighted cosine against distinct normalized skills that are looked up, never interned
+    public double cosine(Set<String> skills, SkillWeights weights) {
+        if (cardinality == 0 || skills.isEmpty()) {
+            return 0.0;
+        }
+        double norm = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (long bits = words[i]; bits != 0; bits &= bits - 1) {
+                double w = weights.weight((i << 6) | Long.numberOfTrailingZeros(bits));
+                norm += w * w;
+            }
+        }
+        norm += overflow.length * weights.fallback() * weights.fallback();
+        double dot = 0;
+        double otherNorm = 0;
+        for (String skill : skills) {
+            int id = dictionary.idOf(skill);
+            double w = weights.weight(id);
+            otherNorm += w * w;
+            if (hasBit(id)) {
+                dot += w * w;
+            } else if (hasName(skill)) {
+                dot += w * weights.fallback();
+            }
+        }
+        return dot / Math.sqrt(norm * otherNorm);
+    }
+}
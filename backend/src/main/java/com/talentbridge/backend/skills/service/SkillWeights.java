@@ -0,0 +1,26 @@
+package com.talentbridge.backend.skills.service;
+
+// Immutable per-skill weights indexed by SkillDictionary id, e.g. an IDF snapshot. Skills without
+// an id, or interned after the snapshot was taken, get the fallback weight.
+public final class SkillWeights {
+
+    private final double[] weights;
+    private final double fallback;
+
+    public SkillWeights(double[] weights, double fallback) {
+        this.weights = weights;
+        this.fallback = fallback;
+    }
+
+    public double weight(int id) {
+        return id >= 0 && id < weights.length ? weights[id] : fallback;
+    }
+
+    public double fallback() {
+        return fallback;
+    }
+
+    public int size() {
+        return weights.length;
+    }
+}
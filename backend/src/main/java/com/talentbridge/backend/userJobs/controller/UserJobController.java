@@ -1,10 +1,17 @@
 package com.talentbridge.backend.userJobs.controller;
 
+import com.talentbridge.backend.export.service.ExportFormat;
+import com.talentbridge.backend.jobs.dto.SearchResultDTO;
+import com.talentbridge.backend.userJobs.dto.RankedApplicantDTO;
 import com.talentbridge.backend.userJobs.model.ApplicationStatus;
 import com.talentbridge.backend.userJobs.model.UserJobModel;
 import com.talentbridge.backend.userJobs.service.JobApplicationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
 import java.util.List;
@@ -39,6 +46,28 @@ public class UserJobController {
         return jobApplicationService.getApplicationsByJob(jobId);
     }
 
+    // Export applications for a job as NDJSON (default) or CSV, streamed row by row
+    @GetMapping("/job/{jobId}/export")
+    public ResponseEntity<StreamingResponseBody> exportApplicationsByJob(@PathVariable Long jobId,
+                                                                         @RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"applications-job-" + jobId + "." + exportFormat.getExtension() + "\"")
+                .body(jobApplicationService.exportApplicationsByJob(jobId, exportFormat));
+    }
+
+    // Applicants to a job ranked by how well their profile skills match it (paginated)
+    @GetMapping("/job/{jobId}/ranked")
+    public ResponseEntity<SearchResultDTO<RankedApplicantDTO>> rankApplicantsByJob(@PathVariable Long jobId,
+                                                                                @RequestParam(required = false) Integer page,
+                                                                                @RequestParam(required = false) Integer size) {
+        return jobApplicationService.rankApplicantsByJob(jobId, page, size)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     // Get applications with enhanced interview round status for a job
     @GetMapping("/job/{jobId}/enhanced")
     public List<UserJobModel> getApplicationsWithEnhancedStatusByJob(@PathVariable Long jobId) {
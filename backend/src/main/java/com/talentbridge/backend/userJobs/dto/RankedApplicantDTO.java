@@ -0,0 +1,67 @@
+package com.talentbridge.backend.userJobs.dto;
+
+import com.talentbridge.backend.userJobs.model.ApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// One applicant to a job with how well their profile skills cover the job's skills
+public class RankedApplicantDTO {
+    private Long applicationId;
+    private Long userId;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private ApplicationStatus status;
+    private LocalDateTime appliedAt;
+    private int matchPercentage;
+    private List<String> matchedSkills;
+    private List<String> missingSkills;
+
+    public RankedApplicantDTO() {}
+
+    public RankedApplicantDTO(Long applicationId, Long userId, String email, String firstName, String lastName,
+                              ApplicationStatus status, LocalDateTime appliedAt, int matchPercentage,
+                              List<String> matchedSkills, List<String> missingSkills) {
+        this.applicationId = applicationId;
+        this.userId = userId;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.status = status;
+        this.appliedAt = appliedAt;
+        this.matchPercentage = matchPercentage;
+        this.matchedSkills = matchedSkills;
+        this.missingSkills = missingSkills;
+    }
+
+    public Long getApplicationId() { return applicationId; }
+    public void setApplicationId(Long applicationId) { this.applicationId = applicationId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+
+    public ApplicationStatus getStatus() { return status; }
+    public void setStatus(ApplicationStatus status) { this.status = status; }
+
+    public LocalDateTime getAppliedAt() { return appliedAt; }
+    public void setAppliedAt(LocalDateTime appliedAt) { this.appliedAt = appliedAt; }
+
+    public int getMatchPercentage() { return matchPercentage; }
+    public void setMatchPercentage(int matchPercentage) { this.matchPercentage = matchPercentage; }
+
+    public List<String> getMatchedSkills() { return matchedSkills; }
+    public void setMatchedSkills(List<String> matchedSkills) { this.matchedSkills = matchedSkills; }
+
+    public List<String> getMissingSkills() { return missingSkills; }
+    public void setMissingSkills(List<String> missingSkills) { this.missingSkills = missingSkills; }
+}
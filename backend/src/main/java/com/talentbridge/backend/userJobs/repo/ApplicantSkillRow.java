@@ -0,0 +1,18 @@
+package com.talentbridge.backend.userJobs.repo;
+
+import com.talentbridge.backend.userJobs.model.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+// Interface projection for one (application, profile skill) pair; profile columns and skill are
+// null when the applicant has no profile or no skills
+public interface ApplicantSkillRow {
+    Long getApplicationId();
+    Long getUserId();
+    String getEmail();
+    ApplicationStatus getStatus();
+    LocalDateTime getAppliedAt();
+    String getFirstName();
+    String getLastName();
+    String getSkill();
+}
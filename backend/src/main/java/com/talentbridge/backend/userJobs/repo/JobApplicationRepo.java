@@ -29,4 +29,18 @@ public interface JobApplicationRepo extends JpaRepository<UserJobModel, Long> {
     @Modifying
     @Query(value = "UPDATE job_application SET status = :status, updated_at = NOW() WHERE id = :applicationId", nativeQuery = true)
     void updateStatusNative(@Param("applicationId") Long applicationId, @Param("status") String status);
+
+    // Every applicant to a job with their profile skills in one query, one row per skill,
+    // grouped by application
+    @Query("SELECT a.id AS applicationId, u.id AS userId, u.email AS email, a.status AS status, "
+            + "a.appliedAt AS appliedAt, p.firstName AS firstName, p.lastName AS lastName, s AS skill "
+            + "FROM UserJobModel a JOIN a.user u LEFT JOIN UserProfileModel p ON p.user.id = u.id "
+            + "LEFT JOIN p.skills s WHERE a.jobId = :jobId ORDER BY a.id")
+    List<ApplicantSkillRow> findApplicantSkillsByJobId(@Param("jobId") Long jobId);
+
+    // Streamed by ExportService
+    String EXPORT_BY_JOB = "SELECT a.id, u.id, u.email, a.jobId, a.status, a.appliedAt, a.updatedAt "
+            + "FROM UserJobModel a JOIN a.user u WHERE a.jobId = :jobId ORDER BY a.id";
+
+    List<String> EXPORT_COLUMNS = List.of("id", "userId", "email", "jobId", "status", "appliedAt", "updatedAt");
 }
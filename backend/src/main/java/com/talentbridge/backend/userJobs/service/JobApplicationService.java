@@ -1,17 +1,37 @@
 package com.talentbridge.backend.userJobs.service;
 
 import com.talentbridge.backend.auth.model.Users;
+import com.talentbridge.backend.export.service.ExportFormat;
+import com.talentbridge.backend.export.service.ExportQuery;
+import com.talentbridge.backend.export.service.ExportService;
+import com.talentbridge.backend.jobs.dto.SearchResultDTO;
+import com.talentbridge.backend.jobs.repo.JobRepo;
+import com.talentbridge.backend.jobs.repo.JobSkillRow;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import com.talentbridge.backend.skills.service.SkillVector;
+import com.talentbridge.backend.userJobs.dto.RankedApplicantDTO;
 import com.talentbridge.backend.userJobs.model.ApplicationStatus;
 import com.talentbridge.backend.userJobs.model.UserJobModel;
+import com.talentbridge.backend.userJobs.repo.ApplicantSkillRow;
 import com.talentbridge.backend.userJobs.repo.JobApplicationRepo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import com.talentbridge.backend.auth.repo.UserRepo;
 import com.talentbridge.backend.interview.service.InterviewRoundService;
 import org.springframework.transaction.annotation.Transactional;
 import com.talentbridge.backend.interview.dto.InterviewRoundsResponseDTO;
 import com.talentbridge.backend.interview.dto.InterviewRoundResponseDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class JobApplicationService {
@@ -25,6 +45,25 @@ public class JobApplicationService {
     @Autowired
     private InterviewRoundService interviewRoundService;
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Value("${talentbridge.applicants.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${talentbridge.applicants.max-page-size:100}")
+    private int maxPageSize;
+
+    // Applicant counts above this are scored on the common fork/join pool
+    @Value("${talentbridge.applicants.parallel-threshold:2000}")
+    private int parallelThreshold;
+
     // Create a job application
 
     // Check if user has already applied for the job
@@ -92,6 +131,81 @@ public class JobApplicationService {
         return jobApplicationRepo.findByJobId(jobId);
     }
 
+    // Streams every application for a job straight from the database cursor
+    public StreamingResponseBody exportApplicationsByJob(Long jobId, ExportFormat format) {
+        ExportQuery query = ExportQuery.of(JobApplicationRepo.EXPORT_BY_JOB, Map.of("jobId", jobId),
+                JobApplicationRepo.EXPORT_COLUMNS);
+        return exportService.export(query, format);
+    }
+
+    // Applicants to a job ranked by cosine similarity of their profile skills to the job's skills,
+    // earliest application first on ties; empty when the job does not exist
+    @Transactional(readOnly = true)
+    public Optional<SearchResultDTO<RankedApplicantDTO>> rankApplicantsByJob(Long jobId, Integer page, Integer size) {
+        if (!jobRepo.existsById(jobId)) {
+            return Optional.empty();
+        }
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        List<String> jobSkills = new ArrayList<>();
+        List<String> normalizedJobSkills = new ArrayList<>();
+        for (JobSkillRow row : jobRepo.findSkillsByJobIds(List.of(jobId))) {
+            jobSkills.add(row.getSkill());
+            normalizedJobSkills.add(SkillDictionary.normalize(row.getSkill()));
+        }
+        SkillVector jobVector = SkillVector.of(skillDictionary, normalizedJobSkills);
+
+        // Rows come ordered by application, one per skill
+        List<Applicant> applicants = new ArrayList<>();
+        Applicant current = null;
+        for (ApplicantSkillRow row : jobApplicationRepo.findApplicantSkillsByJobId(jobId)) {
+            if (current == null || !current.row.getApplicationId().equals(row.getApplicationId())) {
+                current = new Applicant(row);
+                applicants.add(current);
+            }
+            if (row.getSkill() != null) {
+                current.skills.add(SkillDictionary.normalize(row.getSkill()));
+            }
+        }
+
+        Stream<Applicant> scoring = applicants.size() > parallelThreshold ? applicants.parallelStream() : applicants.stream();
+        scoring.forEach(applicant -> applicant.score(jobVector));
+        applicants.sort(Comparator.comparingDouble((Applicant a) -> a.score).reversed()
+                .thenComparing(a -> a.row.getAppliedAt(), Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+                .thenComparing(a -> a.row.getApplicationId()));
+
+        int from = Math.min(applicants.size(), SearchResultDTO.offset(pageNumber, pageSize));
+        int to = Math.min(applicants.size(), from + pageSize);
+        List<RankedApplicantDTO> items = new ArrayList<>(to - from);
+        for (Applicant applicant : applicants.subList(from, to)) {
+            List<String> matched = new ArrayList<>();
+            List<String> missing = new ArrayList<>();
+            for (int i = 0; i < jobSkills.size(); i++) {
+                (applicant.skills.contains(normalizedJobSkills.get(i)) ? matched : missing).add(jobSkills.get(i));
+            }
+            ApplicantSkillRow row = applicant.row;
+            items.add(new RankedApplicantDTO(row.getApplicationId(), row.getUserId(), row.getEmail(),
+                    row.getFirstName(), row.getLastName(), row.getStatus(), row.getAppliedAt(),
+                    (int) (applicant.score * 100), matched, missing));
+        }
+        return Optional.of(new SearchResultDTO<>(items, applicants.size(), pageNumber, pageSize));
+    }
+
+    private static final class Applicant {
+        final ApplicantSkillRow row;
+        final Set<String> skills = new HashSet<>();
+        double score;
+
+        Applicant(ApplicantSkillRow row) {
+            this.row = row;
+        }
+
+        void score(SkillVector jobVector) {
+            score = jobVector.cosine(skills);
+        }
+    }
+
     // Get applications with enhanced interview round status for a job
     public List<UserJobModel> getApplicationsWithEnhancedStatusByJob(Long jobId) {
         List<UserJobModel> applications = jobApplicationRepo.findByJobId(jobId);
@@ -0,0 +1,13 @@
+package com.talentbridge.backend.userProfile.event;
+
+// Published by UserProfileService when a profile is created, deleted or its skills change
+public final class ProfileSkillsChangedEvent {
+
+    private final Long userId;
+
+    public ProfileSkillsChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() { return userId; }
+}
@@ -0,0 +1,7 @@
+package com.talentbridge.backend.userProfile.repo;
+
+// Interface projection for one (candidate, skill) pair of a profile's skills element collection
+public interface ProfileSkillRow {
+    Long getUserId();
+    String getSkill();
+}
@@ -1,12 +1,30 @@
 package com.talentbridge.backend.userProfile.repo;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.talentbridge.backend.userProfile.model.UserProfileModel;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserProfileRepo extends JpaRepository<UserProfileModel, Long> {
     Optional<UserProfileModel> findByUser_Id(Long userId);
+
+    boolean existsByUser_Id(Long userId);
+
+    // Just the skills of a user's profile, without loading the profile
+    @Query("SELECT s FROM UserProfileModel p JOIN p.skills s WHERE p.user.id = :userId")
+    List<String> findSkillsByUserId(@Param("userId") Long userId);
+
+    // All skills of every candidate holding at least one of the given lower-cased skills (pass every alias)
+    @Query("SELECT p.user.id AS userId, s AS skill FROM UserProfileModel p JOIN p.skills s WHERE p.id IN "
+            + "(SELECT p2.id FROM UserProfileModel p2 JOIN p2.skills s2 WHERE LOWER(TRIM(s2)) IN :skills)")
+    List<ProfileSkillRow> findSkillsOfProfilesWithAnySkill(@Param("skills") Collection<String> skills);
+
+    @Query("SELECT p.user.id FROM UserProfileModel p")
+    List<Long> findAllUserIds();
 }
@@ -1,13 +1,18 @@
 package com.talentbridge.backend.userProfile.service;
 
 import com.talentbridge.backend.auth.model.Users;
+import com.talentbridge.backend.skills.service.SkillCatalog;
+import com.talentbridge.backend.userProfile.event.ProfileSkillsChangedEvent;
 import com.talentbridge.backend.userProfile.repo.UsersRepository;
 
 import com.talentbridge.backend.userProfile.model.UserProfileModel;
 import com.talentbridge.backend.userProfile.repo.UserProfileRepo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -19,13 +24,22 @@ public class UserProfileService {
     @Autowired
     private UsersRepository usersRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // ---------------- Create Profile ----------------
+    @Transactional
     public UserProfileModel createProfile(Long userId, UserProfileModel profileData) {
         Users user = usersRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
 
         profileData.setUser(user); // link foreign key
-        return userProfileRepo.save(profileData);
+        if (profileData.getSkills() != null) {
+            profileData.setSkills(SkillCatalog.getDefault().canonicalizeAll(profileData.getSkills()));
+        }
+        UserProfileModel saved = userProfileRepo.save(profileData);
+        eventPublisher.publishEvent(new ProfileSkillsChangedEvent(userId));
+        return saved;
     }
 
     // ---------------- Get All Profiles ----------------
@@ -46,8 +60,10 @@ public class UserProfileService {
     }
 
     // ---------------- Update Profile ----------------
+    @Transactional
     public UserProfileModel updateProfile(Long id, UserProfileModel updatedProfile) {
         UserProfileModel existing = getProfileById(id);
+        List<String> previousSkills = new ArrayList<>(existing.getSkills());
 
         // Basic Info
         existing.setFirstName(updatedProfile.getFirstName());
@@ -63,10 +79,10 @@ public class UserProfileService {
         existing.setJobTitle(updatedProfile.getJobTitle());
         existing.setJobDescription(updatedProfile.getJobDescription());
 
-        // Skills (ElementCollection handling)
+        // Skills (ElementCollection handling), stored under their canonical names
         existing.getSkills().clear();
         if (updatedProfile.getSkills() != null) {
-            existing.getSkills().addAll(updatedProfile.getSkills());
+            existing.getSkills().addAll(SkillCatalog.getDefault().canonicalizeAll(updatedProfile.getSkills()));
         }
 
         // Career Info
@@ -79,14 +95,21 @@ public class UserProfileService {
         existing.setPortfolioUrl(updatedProfile.getPortfolioUrl());
         existing.setGithubUrl(updatedProfile.getGithubUrl());
 
-        return userProfileRepo.save(existing);
+        UserProfileModel saved = userProfileRepo.save(existing);
+        // Match scores only depend on skills; other edits don't need a recompute
+        if (!previousSkills.equals(saved.getSkills())) {
+            eventPublisher.publishEvent(new ProfileSkillsChangedEvent(saved.getUser().getId()));
+        }
+        return saved;
     }
 
     // ---------------- Delete Profile ----------------
+    @Transactional
     public void deleteProfile(Long id) {
-        if (!userProfileRepo.existsById(id)) {
-            throw new RuntimeException("Profile not found with ID: " + id);
-        }
-        userProfileRepo.deleteById(id);
+        UserProfileModel existing = userProfileRepo.findById(id)
+                .orElseThrow(() -> new RuntimeException("Profile not found with ID: " + id));
+        Long userId = existing.getUser() == null ? null : existing.getUser().getId();
+        userProfileRepo.delete(existing);
+        eventPublisher.publishEvent(new ProfileSkillsChangedEvent(userId));
     }
 }
@@ -0,0 +1,150 @@
+package com.talentbridge.backend.ai.service;
+
+import com.talentbridge.backend.ai.repo.JobCandidateScoreRepo;
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.jobs.repo.JobRepo;
+import com.talentbridge.backend.jobs.repo.JobSkillRow;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import com.talentbridge.backend.userProfile.repo.ProfileSkillRow;
+import com.talentbridge.backend.userProfile.repo.UserProfileRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchScoreServiceTest {
+
+    private static final long COALESCE_MS = 200;
+
+    private JobRepo jobRepo;
+    private UserProfileRepo userProfileRepo;
+    private JdbcTemplate jdbcTemplate;
+    private MatchScoreService service;
+
+    @BeforeEach
+    void setUp() {
+        jobRepo = mock(JobRepo.class);
+        userProfileRepo = mock(UserProfileRepo.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        service = new MatchScoreService(mock(JobCandidateScoreRepo.class), jobRepo, userProfileRepo,
+                new SkillDictionary(65536), jdbcTemplate, mock(PlatformTransactionManager.class),
+                2, COALESCE_MS, COALESCE_MS, 20, 100, false);
+
+        when(jobRepo.findSkillsByJobIds(List.of(1L))).thenReturn(List.of(jobSkill(1L, "Java"), jobSkill(1L, "Kafka")));
+        when(userProfileRepo.findSkillsOfProfilesWithAnySkill(any()))
+                .thenReturn(List.of(profileSkill(7L, "java"), profileSkill(8L, "Kafka"), profileSkill(8L, "Go")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void aBurstOfChangesToOneJobCostsOneRecompute() {
+        for (int i = 0; i < 5; i++) {
+            service.onJobChanged(changed(1L));
+        }
+        awaitMetric("jobRecomputes", 1L);
+
+        assertEquals(4L, service.getMetrics().get("coalescedChanges"));
+        verify(jdbcTemplate, times(1)).update(JobCandidateScoreRepo.DELETE_BY_JOB, 1L);
+
+        // A change committed once the recompute is under way schedules another one
+        service.onJobChanged(changed(1L));
+        awaitMetric("jobRecomputes", 2L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recomputeWritesTheCosineOfEveryCandidateSharingASkill() {
+        service.onJobChanged(changed(1L));
+        awaitMetric("jobRecomputes", 1L);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(JobCandidateScoreRepo.INSERT), rows.capture());
+        assertEquals(2, rows.getValue().size());
+        for (Object[] row : rows.getValue()) {
+            assertEquals(1L, row[0]);
+            // Each candidate shares one of the job's two skills and has one or two skills itself
+            double expected = row[1].equals(7L) ? 1 / Math.sqrt(2) : 1 / 2.0;
+            assertEquals(expected, (double) row[2], 1e-9);
+        }
+        assertEquals(2L, service.getMetrics().get("rowsWritten"));
+    }
+
+    @Test
+    void failedRecomputesAreRetried() {
+        when(jdbcTemplate.update(eq(JobCandidateScoreRepo.DELETE_BY_JOB), anyLong()))
+                .thenThrow(new DeadlockLoserDataAccessException("deadlock", null))
+                .thenReturn(0);
+
+        service.onJobChanged(changed(1L));
+        awaitMetric("jobRecomputes", 1L);
+        assertEquals(1L, service.getMetrics().get("failures"));
+    }
+
+    // Recomputes run on the service's own workers after the coalescing delay
+    private void awaitMetric(String name, long expected) {
+        long deadline = System.currentTimeMillis() + 10 * COALESCE_MS + 5000;
+        while (!Long.valueOf(expected).equals(service.getMetrics().get(name)) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        assertEquals(expected, service.getMetrics().get(name), name);
+    }
+
+    private static JobChangedEvent changed(Long jobId) {
+        Job job = new Job();
+        job.setJobId(jobId);
+        job.setSkills(List.of());
+        return JobChangedEvent.saved(job);
+    }
+
+    private static JobSkillRow jobSkill(Long jobId, String skill) {
+        return new JobSkillRow() {
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public String getSkill() {
+                return skill;
+            }
+        };
+    }
+
+    private static ProfileSkillRow profileSkill(Long userId, String skill) {
+        return new ProfileSkillRow() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getSkill() {
+                return skill;
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.talentbridge.backend.auth.Service;
+
+import com.talentbridge.backend.auth.model.RevokedAccessToken;
+import com.talentbridge.backend.auth.repo.RevokedAccessTokenRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    private RevokedAccessTokenRepo repo;
+    private TokenRevocationList list;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(RevokedAccessTokenRepo.class);
+        list = new TokenRevocationList(100, 300000);
+        ReflectionTestUtils.setField(list, "revokedRepo", repo);
+    }
+
+    @Test
+    void revokedTokensAreRejectedUntilTheyExpire() {
+        list.revoke("live", System.currentTimeMillis() + 60000);
+        list.revoke("expired", System.currentTimeMillis() - 1);
+
+        assertTrue(list.isRevoked("live"));
+        assertFalse(list.isRevoked("expired"));
+        assertFalse(list.isRevoked("other"));
+        assertFalse(list.isRevoked(null));
+        verify(repo).save(any());
+    }
+
+    @Test
+    void revocationsFromOtherNodesArePickedUpByThePoll() {
+        when(repo.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(eq(0L), any())).thenReturn(List.of(row(1, "a")));
+        list.pollRevocations();
+
+        assertTrue(list.isRevoked("a"));
+        verify(repo, never()).findAllById(any());
+    }
+
+    @Test
+    void idsSkippedByTheCursorAreRetried() {
+        when(repo.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(anyLong(), any())).thenReturn(List.of());
+        list.loadOnStartup();
+
+        // Id 2 commits after id 3 and is only visible on the next poll
+        when(repo.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(eq(0L), any())).thenReturn(List.of(row(1, "a"), row(3, "c")));
+        list.pollRevocations();
+        assertFalse(list.isRevoked("b"));
+
+        when(repo.findAllById(List.of(2L))).thenReturn(List.of(row(2, "b")));
+        list.pollRevocations();
+        assertTrue(list.isRevoked("b"));
+        assertTrue(list.isRevoked("c"));
+    }
+
+    private static RevokedAccessToken row(long id, String jti) {
+        RevokedAccessToken token = new RevokedAccessToken(jti, LocalDateTime.now().plusMinutes(10));
+        ReflectionTestUtils.setField(token, "id", id);
+        return token;
+    }
+}
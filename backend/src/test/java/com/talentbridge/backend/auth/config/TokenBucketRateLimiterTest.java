@@ -0,0 +1,61 @@
+package com.talentbridge.backend.auth.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void allowsABurstUpToCapacityThenReportsTheWait() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 1, 1000);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        }
+        long wait = limiter.tryAcquire("10.0.0.1");
+        // One token a minute, and the bucket has just been emptied
+        assertTrue(wait > TimeUnit.SECONDS.toNanos(59) && wait <= TimeUnit.MINUTES.toNanos(1), "wait " + wait);
+    }
+
+    @Test
+    void keysHaveTheirOwnBuckets() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 1000);
+        assertEquals(0, limiter.tryAcquire("a@b.com"));
+        assertTrue(limiter.tryAcquire("a@b.com") > 0);
+        assertEquals(0, limiter.tryAcquire("c@d.com"));
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        // A token every millisecond
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 60_000, 1000);
+        assertEquals(0, limiter.tryAcquire("key"));
+        assertTrue(limiter.tryAcquire("key") > 0);
+        Thread.sleep(20);
+        assertEquals(0, limiter.tryAcquire("key"));
+    }
+
+    @Test
+    void leastRecentlyUsedKeysAreDroppedWithAFullBucket() {
+        // Keys of one stripe; a stripe keeps at least 16 buckets
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 0);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; keys.size() < 17; i++) {
+            String key = "ip-" + i;
+            if ((key.hashCode() & 0x7fffffff) % 64 == 0) {
+                keys.add(key);
+            }
+        }
+        for (String key : keys) {
+            assertEquals(0, limiter.tryAcquire(key));
+        }
+        // The 17th key pushed out the first, which starts over; the rest are still empty
+        assertEquals(0, limiter.tryAcquire(keys.get(0)));
+        assertTrue(limiter.tryAcquire(keys.get(16)) > 0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.talentbridge.backend.jobs.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void splitsPlainRecords() throws IOException {
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("1", "", "3")), readAll("a,b,c\n1,,3\n"));
+        // The last record doesn't need a line break
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), readAll("a,b\nc,d"));
+        assertEquals(List.of(), readAll(""));
+    }
+
+    @Test
+    void quotedFieldsKeepCommasNewlinesAndEscapedQuotes() throws IOException {
+        List<List<String>> records = readAll("title,description\n\"Data, Eng\",\"Spark and\nAWS\"\nQA,\"Selenium \"\"Java\"\"\"\n");
+
+        assertEquals(List.of("Data, Eng", "Spark and\nAWS"), records.get(1));
+        assertEquals(List.of("QA", "Selenium \"Java\""), records.get(2));
+        assertEquals(3, records.size());
+    }
+
+    @Test
+    void acceptsCrlfAndBareCrLineEndings() throws IOException {
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), readAll("a,b\r\nc,d\r\n"));
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), readAll("a,b\rc,d\r"));
+        // A CR inside quotes is data
+        assertEquals(List.of(List.of("x\r\ny")), readAll("\"x\r\ny\"\r\n"));
+    }
+
+    @Test
+    void blankLinesComeBackAsOneEmptyField() throws IOException {
+        assertEquals(List.of(List.of("a"), List.of(""), List.of("b")), readAll("a\n\nb\n"));
+    }
+
+    @Test
+    void unterminatedQuoteReportsTheLineTheRecordStartedOn() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("h1,h2\n\"a\nb\",ok\n\n\"never closed,x\nmore\n"));
+        assertEquals(List.of("h1", "h2"), reader.next());
+        assertEquals(List.of("a\nb", "ok"), reader.next());
+        assertEquals(List.of(""), reader.next());
+
+        CsvRecordReader.MalformedCsvException e = assertThrows(CsvRecordReader.MalformedCsvException.class, reader::next);
+        assertEquals(5, e.getLine());
+        assertEquals("Unterminated quoted field starting on line 5", e.getMessage());
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,154 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.jobs.search.JobAutocompleteIndex.Kind;
+import com.talentbridge.backend.jobs.search.JobAutocompleteIndex.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobAutocompleteIndexTest {
+
+    private JobAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobAutocompleteIndex(3, 1000);
+        index.initData();
+    }
+
+    @Test
+    void completesFullTextAndLaterWordStarts() {
+        save(1, "Senior Java Developer", "Berlin", "Java");
+
+        assertEquals(List.of(new Suggestion("Java", Kind.SKILL, 1), new Suggestion("Senior Java Developer", Kind.TITLE, 1)),
+                index.complete("ja", 10));
+        assertEquals(List.of(new Suggestion("Senior Java Developer", Kind.TITLE, 1)), index.complete("dev", 10));
+        assertEquals(List.of(new Suggestion("Berlin", Kind.LOCATION, 1)), index.complete("  BER ", 10));
+        assertEquals(List.of(), index.complete("xyz", 10));
+        assertEquals(List.of(), index.complete("ja", 0));
+        assertEquals(List.of(), index.complete("   ", 10));
+    }
+
+    @Test
+    void splitsEdgesOnDivergingKeys() {
+        save(1, null, null, "React");
+        assertEquals(2, metric("nodes"));
+
+        // "react" splits into "re" + "act", and "dis" hangs off "re"
+        save(2, null, null, "Redis");
+        assertEquals(4, metric("nodes"));
+        assertEquals(List.of("React", "Redis"), texts(index.complete("re", 10)));
+        assertEquals(List.of("React", "Redis"), texts(index.complete("r", 10)));
+        assertEquals(List.of("React"), texts(index.complete("rea", 10)));
+        assertEquals(List.of("Redis"), texts(index.complete("red", 10)));
+        assertEquals(List.of(), texts(index.complete("reb", 10)));
+
+        // A key ending part-way along an existing edge splits it once more, and becomes a terminal
+        save(3, null, null, "Reac");
+        assertEquals(5, metric("nodes"));
+        assertEquals(List.of("Reac", "React"), texts(index.complete("rea", 10)));
+        assertEquals(List.of("Reac", "React", "Redis"), texts(index.complete("re", 10)));
+    }
+
+    @Test
+    void keepsTopKOfEachSubtree() {
+        save(1, null, null, "Scala", "Spark", "SQL", "Swift");
+        save(2, null, null, "Spark", "SQL");
+        save(3, null, null, "Spark");
+
+        // Three slots: most jobs first, then shorter text, then alphabetical
+        assertEquals(List.of("Spark", "SQL", "Scala"), texts(index.complete("s", 10)));
+        assertEquals(List.of("Spark", "SQL"), texts(index.complete("s", 2)));
+        assertEquals(List.of(3, 2, 1), jobs(index.complete("s", 10)));
+
+        // Swift climbs past Scala and SQL once it is used more; the root and "s" nodes re-rank
+        save(4, null, null, "Swift");
+        save(5, null, null, "Swift");
+        assertEquals(List.of("Spark", "Swift", "SQL"), texts(index.complete("s", 10)));
+        assertEquals(List.of("Scala"), texts(index.complete("sc", 10)));
+
+        // And drops out again when those jobs are deleted
+        delete(4);
+        delete(5);
+        assertEquals(List.of("Spark", "SQL", "Scala"), texts(index.complete("s", 10)));
+    }
+
+    @Test
+    void tracksCountsAcrossInsertUpdateAndDelete() {
+        save(1, "Backend Engineer", "Remote", "Java", "Spring");
+        save(2, "Backend Engineer", "Berlin", "Java");
+        assertEquals(2, metric("jobs"));
+        assertEquals(5, metric("entries"));
+        assertEquals(List.of(new Suggestion("Backend Engineer", Kind.TITLE, 2)), index.complete("back", 10));
+        assertEquals(List.of(new Suggestion("Java", Kind.SKILL, 2)), index.complete("java", 10));
+
+        // Keeping the title and skills while changing the location only releases the location
+        save(1, "Backend Engineer", "Paris", "Java", "Spring");
+        assertEquals(List.of(new Suggestion("Backend Engineer", Kind.TITLE, 2)), index.complete("back", 10));
+        assertEquals(List.of(), index.complete("rem", 10));
+        assertEquals(List.of("Paris"), texts(index.complete("par", 10)));
+        assertEquals(1, metric("removedEntries"));
+
+        // Duplicate values within one job count once
+        save(2, "Backend Engineer", "Berlin", "Java", "java", " JAVA ");
+        assertEquals(List.of(new Suggestion("Java", Kind.SKILL, 2)), index.complete("java", 10));
+
+        delete(1);
+        assertEquals(1, metric("jobs"));
+        assertEquals(List.of(new Suggestion("Backend Engineer", Kind.TITLE, 1)), index.complete("back", 10));
+        assertEquals(List.of(new Suggestion("Java", Kind.SKILL, 1)), index.complete("java", 10));
+        assertEquals(List.of(), index.complete("spr", 10));
+        assertEquals(List.of(), index.complete("par", 10));
+        assertEquals(3, metric("entries"));
+        assertEquals(3, metric("removedEntries"));
+
+        // Deleting twice is a no-op
+        delete(1);
+        assertEquals(1, metric("jobs"));
+
+        delete(2);
+        assertEquals(0, metric("jobs"));
+        assertEquals(0, metric("entries"));
+        assertEquals(List.of(), index.complete("b", 10));
+    }
+
+    @Test
+    void sameTextOfDifferentKindsStaysSeparate() {
+        save(1, "Go", "Goa", "Go");
+        List<Suggestion> suggestions = index.complete("go", 10);
+        assertEquals(List.of(new Suggestion("Go", Kind.TITLE, 1), new Suggestion("Go", Kind.SKILL, 1),
+                new Suggestion("Goa", Kind.LOCATION, 1)), suggestions);
+        assertTrue(index.complete("goa", 10).stream().allMatch(s -> s.kind() == Kind.LOCATION));
+    }
+
+    private void save(long jobId, String title, String location, String... skills) {
+        Job job = new Job();
+        job.setJobId(jobId);
+        job.setJobTitle(title);
+        job.setLocation(location);
+        job.setSkills(List.of(skills));
+        index.onJobChanged(JobChangedEvent.saved(job));
+    }
+
+    private void delete(long jobId) {
+        index.onJobChanged(JobChangedEvent.deleted(jobId));
+    }
+
+    private int metric(String name) {
+        return ((Number) index.getMetrics().get(name)).intValue();
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+
+    private static List<Integer> jobs(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::jobs).toList();
+    }
+}
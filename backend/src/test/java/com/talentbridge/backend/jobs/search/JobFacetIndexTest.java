@@ -0,0 +1,185 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.jobs.search.JobFacetIndex.FacetResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobFacetIndexTest {
+
+    private JobFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobFacetIndex("0,30000,60000,90000,120000,150000", 50);
+        index.initData();
+    }
+
+    @Test
+    void filtersAreOrWithinAndAndAcrossFacets() {
+        save(1, "Berlin", "FULL_TIME", 50000.0, "Java", "Spring");
+        save(2, "Remote", "FULL_TIME", 95000.0, "Java");
+        save(3, "Berlin", "CONTRACT", 70000.0, "React");
+        save(4, "Paris", "FULL_TIME", 200000.0, "Java", "React");
+
+        assertEquals(List.of(4L, 3L, 2L, 1L), query(Map.of()).jobIds());
+        assertEquals(List.of(3L, 1L), query(Map.of(JobFacetIndex.LOCATION, List.of("berlin"))).jobIds());
+        assertEquals(List.of(4L, 3L, 1L), query(Map.of(JobFacetIndex.LOCATION, List.of("Berlin", "PARIS"))).jobIds());
+        assertEquals(List.of(4L, 1L), query(Map.of(JobFacetIndex.LOCATION, List.of("Berlin", "Paris"),
+                JobFacetIndex.SKILL, List.of("java"))).jobIds());
+        assertEquals(List.of(), query(Map.of(JobFacetIndex.LOCATION, List.of("Tokyo"))).jobIds());
+        // An empty value list leaves the facet unfiltered
+        assertEquals(4, query(Map.of(JobFacetIndex.SKILL, List.of())).total());
+    }
+
+    @Test
+    void countsEachFacetAgainstTheOtherFacetsFilters() {
+        save(1, "Berlin", "FULL_TIME", 50000.0, "Java");
+        save(2, "Remote", "FULL_TIME", 95000.0, "Java");
+        save(3, "Berlin", "CONTRACT", 70000.0, "React");
+        save(4, "Remote", "CONTRACT", 70000.0, "Java");
+
+        FacetResult result = query(Map.of(JobFacetIndex.LOCATION, List.of("Berlin"), JobFacetIndex.SKILL, List.of("Java")));
+        assertEquals(List.of(1L), result.jobIds());
+        // Location counts ignore the location filter but honour the skill filter, and vice versa
+        assertEquals(Map.of("Berlin", 1, "Remote", 2), result.facets().get(JobFacetIndex.LOCATION));
+        assertEquals(Map.of("Java", 1, "React", 1), result.facets().get(JobFacetIndex.SKILL));
+        assertEquals(Map.of("FULL_TIME", 1), result.facets().get(JobFacetIndex.JOB_TYPE));
+        // Most jobs first, then by label
+        assertEquals(List.of("Java", "React"), List.copyOf(query(Map.of()).facets().get(JobFacetIndex.SKILL).keySet()));
+    }
+
+    @Test
+    void bucketsSalariesByConfiguredBounds() {
+        save(1, null, null, 0.0);
+        save(2, null, null, 29999.99);
+        save(3, null, null, 30000.0);
+        save(4, null, null, 150000.0);
+        save(5, null, null, 1e9);
+        save(6, null, null, -5.0);
+        save(7, null, null, null);
+
+        Map<String, Integer> salary = query(Map.of()).facets().get(JobFacetIndex.SALARY);
+        assertEquals(Map.of("0-30000", 2, "30000-60000", 1, "150000+", 2), salary);
+        assertEquals(List.of(5L, 4L), query(Map.of(JobFacetIndex.SALARY, List.of("150000+"))).jobIds());
+        assertEquals(7, query(Map.of()).total());
+    }
+
+    @Test
+    void updatesAndDeletesClearTheirBits() {
+        save(1, "Berlin", "FULL_TIME", 50000.0, "Java");
+        save(2, "berlin", "FULL_TIME", 50000.0, "Go");
+
+        // The label keeps the first spelling seen
+        assertEquals(Map.of("Berlin", 2), query(Map.of()).facets().get(JobFacetIndex.LOCATION));
+
+        save(1, "Remote", "FULL_TIME", 50000.0, "Rust");
+        FacetResult result = query(Map.of());
+        assertEquals(Map.of("Remote", 1, "Berlin", 1), result.facets().get(JobFacetIndex.LOCATION));
+        assertEquals(Map.of("Go", 1, "Rust", 1), result.facets().get(JobFacetIndex.SKILL));
+        assertEquals(List.of(), query(Map.of(JobFacetIndex.SKILL, List.of("java"))).jobIds());
+
+        delete(2);
+        delete(2);
+        save(3, "Paris", "CONTRACT", 10000.0, "Java");
+        result = query(Map.of());
+        assertEquals(List.of(3L, 1L), result.jobIds());
+        assertEquals(Map.of("Paris", 1, "Remote", 1), result.facets().get(JobFacetIndex.LOCATION));
+        assertEquals(2, ((Number) index.getMetrics().get("jobs")).intValue());
+        assertEquals(2, ((Number) index.getMetrics().get("skillValues")).intValue());
+    }
+
+    @Test
+    void limitsValuesPerFacet() {
+        index = new JobFacetIndex("0", 2);
+        index.initData();
+        save(1, null, null, null, "a", "b", "c");
+        save(2, null, null, null, "b", "c");
+        save(3, null, null, null, "c");
+
+        assertEquals(Map.of("c", 3, "b", 2), query(Map.of()).facets().get(JobFacetIndex.SKILL));
+    }
+
+    @Test
+    void matchesBruteForceAcrossManyWords() {
+        Random random = new Random(5);
+        String[] locations = {"Berlin", "Remote", "Paris", "London"};
+        String[] types = {"FULL_TIME", "CONTRACT", "PART_TIME"};
+        String[] skills = {"Java", "Go", "React", "SQL", "AWS"};
+        Map<Long, Job> jobs = new HashMap<>();
+        for (long jobId = 1; jobId <= 1000; jobId++) {
+            jobs.put(jobId, randomJob(random, jobId, locations, types, skills));
+        }
+        for (long jobId = 50; jobId <= 400; jobId += 7) {
+            jobs.remove(jobId);
+            delete(jobId);
+        }
+        for (long jobId = 1001; jobId <= 1060; jobId++) {
+            jobs.put(jobId, randomJob(random, jobId, locations, types, skills));
+        }
+
+        Map<String, List<String>> filters = Map.of(JobFacetIndex.LOCATION, List.of("Berlin", "Remote"),
+                JobFacetIndex.SKILL, List.of("Go", "SQL"));
+        List<Long> expected = jobs.values().stream()
+                .filter(job -> job.getLocation().equals("Berlin") || job.getLocation().equals("Remote"))
+                .filter(job -> job.getSkills().contains("Go") || job.getSkills().contains("SQL"))
+                .map(Job::getJobId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        Map<String, Integer> expectedTypes = new TreeMap<>();
+        jobs.values().stream()
+                .filter(job -> expected.contains(job.getJobId()))
+                .forEach(job -> expectedTypes.merge(job.getJob_type(), 1, Integer::sum));
+
+        FacetResult all = index.query(filters, 0, Integer.MAX_VALUE);
+        assertEquals(expected, all.jobIds());
+        assertEquals(expected.size(), all.total());
+        assertEquals(expectedTypes, new TreeMap<>(all.facets().get(JobFacetIndex.JOB_TYPE)));
+        for (int offset : new int[]{0, 63, 64, 65, expected.size() - 1, expected.size()}) {
+            FacetResult page = index.query(filters, offset, 20);
+            assertEquals(expected.subList(offset, Math.min(expected.size(), offset + 20)), page.jobIds(), "offset " + offset);
+        }
+    }
+
+    private Job randomJob(Random random, long jobId, String[] locations, String[] types, String[] skills) {
+        List<String> jobSkills = new ArrayList<>();
+        for (String skill : skills) {
+            if (random.nextInt(3) == 0) {
+                jobSkills.add(skill);
+            }
+        }
+        return save(jobId, locations[random.nextInt(locations.length)], types[random.nextInt(types.length)],
+                random.nextInt(200000) * 1.0, jobSkills.toArray(new String[0]));
+    }
+
+    private FacetResult query(Map<String, List<String>> filters) {
+        return index.query(new LinkedHashMap<>(filters), 0, 100);
+    }
+
+    private Job save(long jobId, String location, String jobType, Double salary, String... skills) {
+        Job job = new Job();
+        job.setJobId(jobId);
+        job.setLocation(location);
+        job.setJob_type(jobType);
+        job.setSalary(salary);
+        job.setSkills(List.of(skills));
+        index.onJobChanged(JobChangedEvent.saved(job));
+        return job;
+    }
+
+    private void delete(long jobId) {
+        index.onJobChanged(JobChangedEvent.deleted(jobId));
+    }
+}
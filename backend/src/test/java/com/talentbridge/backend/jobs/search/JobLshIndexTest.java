@@ -0,0 +1,98 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobLshIndexTest {
+
+    private JobLshIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobLshIndex(16, 2);
+        index.initData();
+    }
+
+    @Test
+    void identicalSkillSetsAreAlwaysShortlisted() {
+        save(1, "Java", "Spring", "Kafka");
+        save(2, "Python", "Django");
+
+        assertEquals(Set.of(1L), index.candidates(List.of("java", "spring", "kafka")));
+        assertEquals(Set.of(2L), index.candidates(List.of("python", "django", "django")));
+        assertEquals(Set.of(), index.candidates(List.of("cobol")));
+        assertEquals(Set.of(), index.candidates(List.of()));
+    }
+
+    @Test
+    void jobSkillsAreNormalizedBeforeHashing() {
+        save(1, "ReactJS", " Node.js ", "TypeScript");
+
+        assertEquals(Set.of(1L), index.candidates(List.of("react", "node.js", "typescript")));
+    }
+
+    @Test
+    void similarJobsAreShortlistedAndDissimilarOnesMostlyNot() {
+        // Similar jobs share 9 of 10 skills with the query (Jaccard 9/11); dissimilar ones 1 of 10 (1/19)
+        List<String> query = new ArrayList<>();
+        for (int s = 0; s < 10; s++) {
+            query.add("core" + s);
+        }
+        for (long jobId = 1; jobId <= 100; jobId++) {
+            List<String> skills = new ArrayList<>(query.subList(0, 9));
+            skills.add("extra" + jobId);
+            save(jobId, skills.toArray(new String[0]));
+        }
+        for (long jobId = 101; jobId <= 300; jobId++) {
+            List<String> skills = new ArrayList<>(List.of("core0"));
+            for (int s = 0; s < 9; s++) {
+                skills.add("other" + jobId + "-" + s);
+            }
+            save(jobId, skills.toArray(new String[0]));
+        }
+
+        Set<Long> shortlist = index.candidates(query);
+        long similar = shortlist.stream().filter(id -> id <= 100).count();
+        long dissimilar = shortlist.size() - similar;
+        assertEquals(100, similar);
+        assertTrue(dissimilar < 50, dissimilar + " dissimilar jobs shortlisted");
+    }
+
+    @Test
+    void updatesAndDeletesMoveJobsBetweenBuckets() {
+        save(1, "Java", "Spring");
+        save(2, "Java", "Spring");
+        save(1, "Go", "gRPC");
+
+        assertEquals(Set.of(2L), index.candidates(List.of("java", "spring")));
+        assertEquals(Set.of(1L), index.candidates(List.of("go", "grpc")));
+
+        delete(2);
+        // A job saved without skills leaves the index too
+        save(1);
+        assertEquals(Set.of(), index.candidates(List.of("java", "spring")));
+        assertEquals(Set.of(), index.candidates(List.of("go", "grpc")));
+        assertEquals(0, index.size());
+        assertEquals(0, index.getMetrics().get("buckets"));
+    }
+
+    private void save(long jobId, String... skills) {
+        Job job = new Job();
+        job.setJobId(jobId);
+        job.setSkills(List.of(skills));
+        index.onJobChanged(JobChangedEvent.saved(job));
+    }
+
+    private void delete(long jobId) {
+        index.onJobChanged(JobChangedEvent.deleted(jobId));
+    }
+}
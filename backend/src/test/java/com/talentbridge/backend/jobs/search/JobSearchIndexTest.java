@@ -0,0 +1,101 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.jobs.search.JobSearchIndex.SearchHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobSearchIndexTest {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex(1000);
+        index.initData();
+    }
+
+    @Test
+    void titleAndSkillMatchesOutrankDescriptionMatches() {
+        save(1, "Backend Engineer", "Work with kafka every day", "Berlin");
+        save(2, "Kafka Engineer", "Streaming platform", "Berlin");
+        save(3, "Platform Engineer", "Infrastructure", "Berlin", "kafka");
+
+        SearchHits hits = index.search("kafka", 0, 10);
+        // Job 3 is the longer document, so its (equally weighted) skill match scores a bit lower
+        assertEquals(List.of(2L, 3L, 1L), hits.jobIds());
+        assertEquals(3, hits.total());
+    }
+
+    @Test
+    void rareTermsWeighMoreThanCommonOnes() {
+        save(1, "Java Developer", "Spring services", "Pune");
+        save(2, "Java Developer", "Kafka pipelines", "Pune");
+        save(3, "Java Architect", "Spring cloud", "Pune");
+        save(4, "Java Lead", "Spring and Hibernate", "Pune");
+
+        assertEquals(2L, index.search("java kafka", 0, 10).jobIds().get(0));
+        assertEquals(4, index.search("java kafka", 0, 10).total());
+    }
+
+    @Test
+    void pagesThroughTheRanking() {
+        for (long jobId = 1; jobId <= 5; jobId++) {
+            save(jobId, "Go Developer", "Microservices", "Remote");
+        }
+
+        assertEquals(List.of(5L, 4L), index.search("go", 0, 2).jobIds());
+        assertEquals(List.of(3L, 2L), index.search("go", 2, 2).jobIds());
+        assertEquals(List.of(1L), index.search("go", 4, 2).jobIds());
+        assertEquals(List.of(), index.search("go", 5, 2).jobIds());
+        assertEquals(5, index.search("go", 5, 2).total());
+        assertEquals(List.of(), index.search("go", Integer.MAX_VALUE, 10).jobIds());
+    }
+
+    @Test
+    void updatesAndDeletesReplaceTheOldTerms() {
+        save(1, "Java Developer", "Spring", "Pune");
+        save(2, "Rust Developer", "Systems", "Pune");
+        save(1, "Go Developer", "Services", "Pune");
+        delete(2);
+
+        assertEquals(List.of(), index.search("java", 0, 10).jobIds());
+        assertEquals(List.of(), index.search("rust", 0, 10).jobIds());
+        assertEquals(List.of(1L), index.search("go", 0, 10).jobIds());
+        assertEquals(List.of(1L), index.search("developer", 0, 10).jobIds());
+        assertEquals(1, index.getMetrics().get("liveDocs"));
+        assertEquals(2, index.getMetrics().get("deletedDocs"));
+    }
+
+    @Test
+    void keepsTechTermsAndIgnoresStopWords() {
+        save(1, "C++ Developer", "Embedded", "Munich");
+        save(2, "C# Developer", ".NET and Node.js", "Munich");
+
+        assertEquals(List.of(1L), index.search("c++", 0, 10).jobIds());
+        assertEquals(List.of(2L), index.search("C#", 0, 10).jobIds());
+        assertEquals(List.of(2L), index.search("node.js", 0, 10).jobIds());
+        assertEquals(List.of(), index.search("the and of", 0, 10).jobIds());
+        assertEquals(List.of(), index.search("", 0, 10).jobIds());
+        assertEquals(List.of(), index.search("developer", 0, 0).jobIds());
+    }
+
+    private void save(long jobId, String title, String description, String location, String... skills) {
+        Job job = new Job();
+        job.setJobId(jobId);
+        job.setJobTitle(title);
+        job.setDescription(description);
+        job.setLocation(location);
+        job.setSkills(List.of(skills));
+        index.onJobChanged(JobChangedEvent.saved(job));
+    }
+
+    private void delete(long jobId) {
+        index.onJobChanged(JobChangedEvent.deleted(jobId));
+    }
+}
@@ -0,0 +1,177 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.jobs.search.JobSkillVectorIndex.RankedJobs;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import com.talentbridge.backend.skills.service.SkillWeights;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobSkillVectorIndexTest {
+
+    // The smallest split threshold the index accepts; scans over more slots fork
+    private static final int SPLIT = 256;
+
+    private SkillDictionary dictionary;
+    private JobSkillVectorIndex index;
+    private final Map<Long, Set<String>> skillsByJob = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary(65536);
+        index = new JobSkillVectorIndex(dictionary, SPLIT);
+        index.initData();
+    }
+
+    @Test
+    void ranksByCosineThenNewestFirst() {
+        save(1, "java", "spring");
+        save(2, "java", "spring");
+        save(3, "java");
+        save(4, "python");
+        save(5, "java", "spring", "kafka", "docker");
+
+        RankedJobs ranked = index.rank(List.of("java", "spring"), null, 0, 10);
+        // Equal scores (jobs 1 and 2) come out newest first; job 4 shares nothing and is left out
+        assertEquals(List.of(2L, 1L, 5L, 3L), ranked.jobIds());
+        assertEquals(List.of(1.0, 1.0, 2 / Math.sqrt(8), 1 / Math.sqrt(2)), ranked.scores());
+        assertEquals(4, ranked.total());
+
+        RankedJobs page = index.rank(List.of("java", "spring"), null, 1, 2);
+        assertEquals(List.of(1L, 5L), page.jobIds());
+        assertEquals(4, page.total());
+        assertEquals(List.of(), index.rank(List.of("java", "spring"), null, 4, 2).jobIds());
+    }
+
+    @Test
+    void rankAmongRestrictsToTheShortlist() {
+        save(1, "java", "spring");
+        save(2, "java");
+        save(3, "java", "spring");
+
+        RankedJobs ranked = index.rankAmong(List.of(1L, 2L, 99L), List.of("java", "spring"), null, 0, 10);
+        assertEquals(List.of(1L, 2L), ranked.jobIds());
+        assertEquals(2, ranked.total());
+        assertEquals(List.of(), index.rankAmong(List.of(), List.of("java"), null, 0, 10).jobIds());
+    }
+
+    @Test
+    void emptyAndUnknownQueriesMatchNothingWithoutInterning() {
+        save(1, "java");
+        int size = dictionary.size();
+
+        assertEquals(List.of(), index.rank(List.of("cobol", "fortran"), null, 0, 10).jobIds());
+        assertEquals(List.of(), index.rank(List.of(), null, 0, 10).jobIds());
+        assertEquals(List.of(), index.rank(List.of("java"), null, 0, 0).jobIds());
+        assertEquals(size, dictionary.size());
+
+        // Unknown query skills still count towards the query's norm
+        assertEquals(List.of(1 / Math.sqrt(2)), index.rank(List.of("java", "cobol"), null, 0, 10).scores());
+    }
+
+    @Test
+    void updatesAndDeletesReuseSlots() {
+        save(1, "java");
+        save(2, "java", "go");
+        delete(1);
+        save(3, "java");
+        save(2, "rust");
+
+        assertEquals(List.of(3L), index.rank(List.of("java"), null, 0, 10).jobIds());
+        assertEquals(List.of(2L), index.rank(List.of("rust"), null, 0, 10).jobIds());
+        assertEquals(2, ((Number) index.getMetrics().get("jobs")).intValue());
+    }
+
+    @Test
+    void weightedScoresFavourRareSkills() {
+        save(1, "java", "spring");
+        save(2, "java", "kafka");
+        int kafka = dictionary.idOf("kafka");
+        double[] weights = new double[dictionary.size()];
+        Arrays.fill(weights, 1.0);
+        weights[kafka] = 3.0;
+
+        assertEquals(List.of(2L, 1L), index.rank(List.of("spring", "kafka"), null, 0, 10).jobIds());
+        assertEquals(List.of(2L, 1L), index.rank(List.of("spring", "kafka"), new SkillWeights(weights, 1.0), 0, 10).jobIds());
+        weights[kafka] = 0.5;
+        assertEquals(List.of(1L, 2L), index.rank(List.of("spring", "kafka"), new SkillWeights(weights, 1.0), 0, 10).jobIds());
+    }
+
+    @Test
+    void forkedScanMatchesBruteForceOnEveryPage() {
+        // Few skills and many jobs, so most scores tie and the newest-first order is exercised
+        // across the ranges the scan is split into
+        Random random = new Random(11);
+        String[] vocabulary = {"java", "spring", "kafka", "docker", "sql", "aws", "react", "go"};
+        for (long jobId = 1; jobId <= 10 * SPLIT; jobId++) {
+            saveRandom(random, jobId, vocabulary);
+        }
+        // Free some slots in the middle and refill them with newer jobs
+        for (long jobId = 300; jobId < 700; jobId += 3) {
+            delete(jobId);
+        }
+        for (long jobId = 10 * SPLIT + 1; jobId <= 10 * SPLIT + 100; jobId++) {
+            saveRandom(random, jobId, vocabulary);
+        }
+
+        for (List<String> query : List.of(List.of("java"), List.of("java", "kafka"), List.of("sql", "aws", "go", "react"))) {
+            List<Long> expected = bruteForce(new HashSet<>(query));
+            for (int offset : new int[]{0, 1, SPLIT - 1, SPLIT, SPLIT + 1, 3 * SPLIT, expected.size() - 5}) {
+                for (int limit : new int[]{1, 20, 2 * SPLIT}) {
+                    RankedJobs page = index.rank(query, null, offset, limit);
+                    int to = Math.min(expected.size(), offset + limit);
+                    assertEquals(expected.subList(Math.min(offset, to), to), page.jobIds(),
+                            query + " offset " + offset + " limit " + limit);
+                    assertEquals(expected.size(), page.total());
+                }
+            }
+        }
+    }
+
+    private List<Long> bruteForce(Set<String> query) {
+        Map<Long, Double> scores = new HashMap<>();
+        skillsByJob.forEach((jobId, skills) -> {
+            long shared = skills.stream().filter(query::contains).count();
+            if (shared > 0) {
+                scores.put(jobId, shared / Math.sqrt((double) skills.size() * query.size()));
+            }
+        });
+        List<Long> ids = new ArrayList<>(scores.keySet());
+        ids.sort(Comparator.comparing((Long id) -> scores.get(id)).reversed().thenComparing(Comparator.reverseOrder()));
+        return ids;
+    }
+
+    private void saveRandom(Random random, long jobId, String[] vocabulary) {
+        Set<String> skills = new HashSet<>();
+        for (int i = 1 + random.nextInt(4); i > 0; i--) {
+            skills.add(vocabulary[random.nextInt(vocabulary.length)]);
+        }
+        save(jobId, skills.toArray(new String[0]));
+    }
+
+    private void save(long jobId, String... skills) {
+        Job job = new Job();
+        job.setJobId(jobId);
+        job.setSkills(List.of(skills));
+        skillsByJob.put(jobId, Set.of(skills));
+        index.onJobChanged(JobChangedEvent.saved(job));
+    }
+
+    private void delete(long jobId) {
+        skillsByJob.remove(jobId);
+        index.onJobChanged(JobChangedEvent.deleted(jobId));
+    }
+}
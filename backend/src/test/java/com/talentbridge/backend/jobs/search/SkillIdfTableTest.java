@@ -0,0 +1,99 @@
+package com.talentbridge.backend.jobs.search;
+
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.Job;
+import com.talentbridge.backend.skills.service.SkillDictionary;
+import com.talentbridge.backend.skills.service.SkillWeights;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SkillIdfTableTest {
+
+    private SkillDictionary dictionary;
+    private SkillIdfTable table;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary(65536);
+        table = new SkillIdfTable(dictionary);
+        table.initData();
+    }
+
+    @Test
+    void everySkillWeighsOneUntilTheFirstPublish() {
+        save(1, "Java");
+        assertEquals(1.0, table.weights().weight(dictionary.idOf("java")));
+        assertEquals(1.0, table.weights().fallback());
+    }
+
+    @Test
+    void publishesSmoothedIdf() {
+        save(1, "Java", "Kafka");
+        save(2, "Java");
+        save(3, "Java", "Go");
+        table.publish();
+
+        SkillWeights weights = table.weights();
+        assertEquals(Math.log(4.0 / 4.0) + 1, weights.weight(dictionary.idOf("java")), 1e-9);
+        assertEquals(Math.log(4.0 / 2.0) + 1, weights.weight(dictionary.idOf("kafka")), 1e-9);
+        // Skills no job has score like a skill with df 0
+        assertEquals(Math.log(4.0) + 1, weights.fallback(), 1e-9);
+        assertEquals(weights.fallback(), weights.weight(SkillDictionary.NO_ID));
+        assertEquals(3, table.getMetrics().get("publishedJobs"));
+    }
+
+    @Test
+    void publishesOnlyWhenTheCountsChanged() {
+        save(1, "Java");
+        table.publish();
+        SkillWeights first = table.weights();
+        table.publish();
+
+        assertSame(first, table.weights());
+        assertEquals(1L, table.getMetrics().get("publishes"));
+
+        save(2, "Go");
+        table.publish();
+        assertEquals(2L, table.getMetrics().get("publishes"));
+    }
+
+    @Test
+    void updatesAndDeletesAdjustTheCounts() {
+        save(1, "Java", "Kafka");
+        save(2, "Kafka");
+        save(1, "Java");
+        delete(2);
+        table.publish();
+
+        // One job left, with java only
+        SkillWeights weights = table.weights();
+        assertEquals(Math.log(2.0 / 2.0) + 1, weights.weight(dictionary.idOf("java")), 1e-9);
+        assertEquals(Math.log(2.0 / 1.0) + 1, weights.weight(dictionary.idOf("kafka")), 1e-9);
+        assertEquals(1, table.getMetrics().get("jobs"));
+    }
+
+    @Test
+    void aliasesAndRepeatsCountOncePerJob() {
+        save(1, "React", "ReactJS", "react.js", "Java");
+        save(2, "Java");
+        table.publish();
+
+        assertEquals(Math.log(3.0 / 2.0) + 1, table.weights().weight(dictionary.idOf("react")), 1e-9);
+    }
+
+    private void save(long jobId, String... skills) {
+        Job job = new Job();
+        job.setJobId(jobId);
+        job.setSkills(List.of(skills));
+        table.onJobChanged(JobChangedEvent.saved(job));
+    }
+
+    private void delete(long jobId) {
+        table.onJobChanged(JobChangedEvent.deleted(jobId));
+    }
+}
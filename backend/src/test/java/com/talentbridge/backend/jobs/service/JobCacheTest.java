@@ -0,0 +1,118 @@
+package com.talentbridge.backend.jobs.service;
+
+import com.talentbridge.backend.jobs.dto.JobDetailDTO;
+import com.talentbridge.backend.jobs.event.JobChangedEvent;
+import com.talentbridge.backend.jobs.model.JobChangeLog;
+import com.talentbridge.backend.jobs.repo.JobChangeLogRepo;
+import com.talentbridge.backend.jobs.repo.JobRepo;
+import com.talentbridge.backend.jobs.repo.JobViewCountRepo;
+import com.talentbridge.backend.jobs.search.JobSnapshotLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobCacheTest {
+
+    private JobRepo jobRepo;
+    private JobChangeLogRepo changeLogRepo;
+    private JobSnapshotLoader snapshotLoader;
+    private ApplicationEventPublisher eventPublisher;
+    private JobCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jobRepo = mock(JobRepo.class);
+        changeLogRepo = mock(JobChangeLogRepo.class);
+        snapshotLoader = mock(JobSnapshotLoader.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        cache = new JobCache(mock(PlatformTransactionManager.class), 100, 600, 0, 24, 300000);
+        ReflectionTestUtils.setField(cache, "jobRepo", jobRepo);
+        ReflectionTestUtils.setField(cache, "changeLogRepo", changeLogRepo);
+        ReflectionTestUtils.setField(cache, "viewCountRepo", mock(JobViewCountRepo.class));
+        ReflectionTestUtils.setField(cache, "snapshotLoader", snapshotLoader);
+        ReflectionTestUtils.setField(cache, "eventPublisher", eventPublisher);
+
+        when(jobRepo.findDetailById(1L)).thenReturn(Optional.of(detail(1L)));
+        when(changeLogRepo.findMaxId()).thenReturn(0L);
+        when(changeLogRepo.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void readsThroughOnceUntilEvicted() {
+        JobDetailDTO first = cache.get(1L);
+        assertSame(first, cache.get(1L));
+        verify(jobRepo, times(1)).findDetailById(1L);
+
+        cache.evict(JobChangedEvent.deleted(1L));
+        cache.get(1L);
+        verify(jobRepo, times(2)).findDetailById(1L);
+    }
+
+    @Test
+    void pollReplaysOnlyOtherNodesChanges() {
+        List<JobChangedEvent> snapshots = List.of(JobChangedEvent.deleted(5L));
+        when(snapshotLoader.load(Set.of(5L))).thenReturn(snapshots);
+        cache.start();
+        cache.get(1L);
+
+        when(changeLogRepo.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .thenReturn(List.of(change(1, 5L, "other-node"), change(2, 1L, ownNodeId())));
+        cache.pollChanges();
+
+        verify(snapshotLoader).load(Set.of(5L));
+        verify(eventPublisher).publishEvent(snapshots.get(0));
+        assertEquals(1L, cache.getMetrics().get("remoteChanges"));
+        // Job 1 was changed by this node, which evicted it already
+        cache.get(1L);
+        verify(jobRepo, times(1)).findDetailById(1L);
+    }
+
+    @Test
+    void idsSkippedByTheCursorAreRetried() {
+        cache.start();
+        when(changeLogRepo.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .thenReturn(List.of(change(1, 5L, "other-node"), change(3, 7L, "other-node")));
+        cache.pollChanges();
+        assertEquals(1, cache.getMetrics().get("pendingChangeGaps"));
+        verify(snapshotLoader, never()).load(Set.of(6L));
+
+        // Id 2 committed after id 3 was read
+        when(changeLogRepo.findAllById(List.of(2L))).thenReturn(List.of(change(2, 6L, "other-node")));
+        cache.pollChanges();
+        verify(snapshotLoader).load(Set.of(6L));
+        assertEquals(0, cache.getMetrics().get("pendingChangeGaps"));
+    }
+
+    private String ownNodeId() {
+        return (String) ReflectionTestUtils.getField(cache, "nodeId");
+    }
+
+    private static JobChangeLog change(long id, Long jobId, String nodeId) {
+        JobChangeLog change = new JobChangeLog(jobId, nodeId);
+        ReflectionTestUtils.setField(change, "id", id);
+        return change;
+    }
+
+    private static JobDetailDTO detail(Long jobId) {
+        JobDetailDTO job = new JobDetailDTO();
+        ReflectionTestUtils.setField(job, "jobId", jobId);
+        return job;
+    }
+}
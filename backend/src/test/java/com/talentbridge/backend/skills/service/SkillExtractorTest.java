@@ -0,0 +1,70 @@
+package com.talentbridge.backend.skills.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SkillExtractorTest {
+
+    private static final String DICTIONARY = """
+            # test dictionary
+            Java
+            JavaScript|JS|ECMAScript
+            React|ReactJS|React.js
+            Node.js|NodeJS|Node js
+            Spring Boot|SpringBoot
+            Spring|Spring Framework
+            C++
+            C#
+            .NET|dotnet
+            Go|Golang
+            """;
+
+    private SkillExtractor extractor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        extractor = SkillCatalog.parse(new BufferedReader(new StringReader(DICTIONARY))).getExtractor();
+    }
+
+    @Test
+    void findsCanonicalNamesThroughAliasesInDictionaryOrder() {
+        assertEquals(List.of("JavaScript", "React", "Node.js"),
+                extractor.extract("NodeJS, reactjs and ECMAScript; React again and Node js"));
+    }
+
+    @Test
+    void matchesAreCaseInsensitiveAndWholeWord() {
+        assertEquals(List.of("JavaScript"), extractor.extract("Strong JAVASCRIPT skills"));
+        assertEquals(List.of("Java"), extractor.extract("java, not javanese"));
+        assertEquals(List.of(), extractor.extract("Gopher and Springfield"));
+        // "js" inside "react.js" is part of the dotted name
+        assertEquals(List.of("React"), extractor.extract("We use react.js daily"));
+    }
+
+    @Test
+    void overlappingSkillsAreAllReported() {
+        assertEquals(List.of("Spring Boot", "Spring"), extractor.extract("Spring Boot microservices"));
+        assertEquals(List.of("Spring"), extractor.extract("Spring Framework 6"));
+    }
+
+    @Test
+    void symbolsAtTheEdgesOfANameStillMatch() {
+        assertEquals(List.of("C++", "C#", ".NET"), extractor.extract("C++, C# and .NET."));
+        assertEquals(List.of("C++"), extractor.extract("Modern C++."));
+        assertEquals(List.of(".NET"), extractor.extract("dotnet or .net"));
+    }
+
+    @Test
+    void emptyTextFindsNothing() {
+        assertEquals(List.of(), extractor.extract(null));
+        assertEquals(List.of(), extractor.extract(""));
+        assertEquals(List.of(), extractor.extract("No known skills here"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.talentbridge.backend.skills.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillVectorTest {
+
+    private SkillDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary(65536);
+    }
+
+    @Test
+    void setOperationsOverInternedSkills() {
+        SkillVector a = SkillVector.of(dictionary, List.of("java", "spring", "java"));
+        SkillVector b = SkillVector.of(dictionary, List.of("java", "kafka"));
+
+        assertEquals(2, a.size());
+        assertTrue(a.contains("spring"));
+        assertFalse(a.contains("kafka"));
+        assertEquals(1, a.intersectionSize(b));
+        assertEquals(1 / 2.0, a.cosine(b), 1e-9);
+        assertEquals(1 / 2.0, a.cosine(Set.of("java", "kafka")), 1e-9);
+        assertEquals(0.0, a.cosine(SkillVector.of(dictionary, List.of())));
+    }
+
+    @Test
+    void lookupKeepsUnknownSkillsByNameWithoutInterning() {
+        SkillVector.of(dictionary, List.of("java"));
+        SkillVector query = SkillVector.lookup(dictionary, List.of("java", "cobol"));
+
+        assertEquals(1, dictionary.size());
+        assertEquals(2, query.size());
+        assertTrue(query.contains("cobol"));
+        assertEquals(1, query.intersectionSize(SkillVector.lookup(dictionary, List.of("cobol", "go"))));
+    }
+
+    @Test
+    void skillInternedBetweenTwoVectorsStillMatches() {
+        // "kafka" is a name in the first vector and, once another thread interns it, a bit in the second
+        SkillVector before = SkillVector.lookup(dictionary, List.of("java", "kafka"));
+        SkillVector.of(dictionary, List.of("java", "kafka"));
+        SkillVector after = SkillVector.lookup(dictionary, List.of("kafka"));
+
+        assertTrue(before.contains("kafka"));
+        assertTrue(after.contains("kafka"));
+        assertEquals(1, before.intersectionSize(after));
+        assertEquals(1, after.intersectionSize(before));
+        assertEquals(1 / Math.sqrt(2), before.cosine(after), 1e-9);
+        assertEquals(1 / Math.sqrt(2), after.cosine(before), 1e-9);
+
+        double[] weights = new double[dictionary.size()];
+        Arrays.fill(weights, 1.0);
+        SkillWeights uniform = new SkillWeights(weights, 1.0);
+        assertEquals(1 / Math.sqrt(2), before.cosine(after, uniform), 1e-9);
+        assertEquals(1 / Math.sqrt(2), after.cosine(before, uniform), 1e-9);
+        assertEquals(1 / Math.sqrt(2), before.cosine(Set.of("kafka"), uniform), 1e-9);
+    }
+
+    @Test
+    void fullDictionaryFallsBackToNames() {
+        SkillDictionary small = new SkillDictionary(1);
+        SkillVector a = SkillVector.of(small, List.of("java", "go", "rust"));
+        SkillVector b = SkillVector.of(small, List.of("go", "rust"));
+
+        assertEquals(1, small.size());
+        assertEquals(3, a.size());
+        assertEquals(2, a.intersectionSize(b));
+        assertEquals(2 / Math.sqrt(6), a.cosine(b), 1e-9);
+    }
+}
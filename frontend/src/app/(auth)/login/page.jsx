@@ -48,7 +48,9 @@ export default function page() {
       {
         email: formData.email,
         password: formData.password
-      }
+      },
+      // Lets the browser keep the HttpOnly refresh cookie the API sets
+      { withCredentials: true }
     );
     
     const decodedToken = jwtDecode(response.data);
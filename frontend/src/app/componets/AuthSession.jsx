@@ -0,0 +1,8 @@
+'use client';
+
+// Importing the module installs the axios interceptors once, before any page effect issues a request
+import './authClient';
+
+export default function AuthSession() {
+  return null;
+}
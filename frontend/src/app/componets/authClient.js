@@ -0,0 +1,125 @@
+import axios from 'axios';
+import { jwtDecode } from 'jwt-decode';
+import { deleteCookie } from 'cookies-next';
+
+// Access tokens are short-lived; the refresh token lives in an HttpOnly cookie scoped to /token on
+// the API origin. Every page calls the API through the global axios instance with
+// `Authorization: Bearer <token from localStorage>`, so the interceptors below keep that token
+// fresh for all of them: renew shortly before expiry, and retry once after a 401.
+
+const API_URL = process.env.NEXT_PUBLIC_API_URL;
+const REFRESH_MARGIN_MS = 60 * 1000;
+
+let refreshing = null;
+let installed = false;
+
+function isApiRequest(config) {
+  const url = config.url || '';
+  return Boolean(API_URL) && url.startsWith(API_URL);
+}
+
+function isTokenEndpoint(config) {
+  const url = config.url || '';
+  return url.includes('/token/') || url.endsWith('/login');
+}
+
+function expiresSoon(token) {
+  try {
+    const { exp } = jwtDecode(token);
+    return !exp || exp * 1000 - Date.now() < REFRESH_MARGIN_MS;
+  } catch {
+    return true;
+  }
+}
+
+function endSession() {
+  localStorage.removeItem('token');
+  localStorage.removeItem('userId');
+  localStorage.removeItem('email');
+  deleteCookie('userRole');
+  deleteCookie('email');
+  window.location.href = '/login';
+}
+
+// One refresh at a time; concurrent callers share it. Resolves to the new token, or null once the
+// refresh token is gone, expired or reused (the session is then ended).
+export function refreshAccessToken() {
+  if (!refreshing) {
+    refreshing = axios
+      .post(`${API_URL}/token/refresh`, null, { withCredentials: true })
+      .then((response) => {
+        if (typeof response.data !== 'string' || response.data === 'fail') {
+          throw new Error('Refresh failed');
+        }
+        localStorage.setItem('token', response.data);
+        return response.data;
+      })
+      .catch(() => {
+        endSession();
+        return null;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+}
+
+// Revokes the refresh cookie and the current access token server-side; local state is cleared by the caller
+export async function logout() {
+  const token = localStorage.getItem('token');
+  try {
+    await axios.post(`${API_URL}/token/revoke`, null, {
+      withCredentials: true,
+      headers: token ? { Authorization: `Bearer ${token}` } : {},
+    });
+  } catch (error) {
+    console.error('Logout error:', error);
+  }
+}
+
+export function installAuthInterceptors() {
+  if (installed || typeof window === 'undefined') {
+    return;
+  }
+  installed = true;
+
+  axios.interceptors.request.use(async (config) => {
+    const header = config.headers?.get?.('Authorization');
+    if (!header || !String(header).startsWith('Bearer ') || !isApiRequest(config) || isTokenEndpoint(config)) {
+      return config;
+    }
+    // Only signed-in sessions are renewed; pages send "Bearer null" when there is no token
+    let token = localStorage.getItem('token');
+    if (!token) {
+      return config;
+    }
+    if (expiresSoon(token)) {
+      token = (await refreshAccessToken()) || token;
+    }
+    // Pages read the token before awaiting other calls, so always send the latest one
+    config.headers.set('Authorization', `Bearer ${token}`);
+    return config;
+  });
+
+  axios.interceptors.response.use(
+    (response) => response,
+    async (error) => {
+      const config = error.config;
+      const header = config?.headers?.get?.('Authorization');
+      if (error.response?.status !== 401 || !config || config._retried || !header
+          || isTokenEndpoint(config) || !localStorage.getItem('token')) {
+        return Promise.reject(error);
+      }
+      config._retried = true;
+      const token = await refreshAccessToken();
+      if (!token) {
+        return Promise.reject(error);
+      }
+      config.headers.set('Authorization', `Bearer ${token}`);
+      return axios(config);
+    }
+  );
+}
+
+installAuthInterceptors();
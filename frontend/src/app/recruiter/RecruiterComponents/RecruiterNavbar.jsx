@@ -3,6 +3,7 @@
 import Link from 'next/link';
 import { useRouter } from 'next/navigation';
 import { useState, useEffect } from 'react';
+import { logout } from '@/app/componets/authClient';
 import { Menu, X, LogOut, User, Briefcase, Home, Building2, FileText } from 'lucide-react';
 
 export default function RecruiterNavbar() {
@@ -23,7 +24,10 @@ export default function RecruiterNavbar() {
     setActivePath(window.location.pathname);
   }, []);
 
-  const handleLogout = () => {
+  const handleLogout = async () => {
+    // Revoke the refresh cookie server-side before the local session is cleared
+    await logout();
+
     // Clear all storage
     localStorage.removeItem('token');
     localStorage.removeItem('userId');